@@ -0,0 +1,340 @@
+package com.resumetracker;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.ingest.BatchIngestionEngine;
+import com.resumetracker.ingest.IngestionResult;
+import com.resumetracker.matcher.JobMatcher;
+import com.resumetracker.matcher.ResumeTextIndex;
+import com.resumetracker.matcher.SkillIndex;
+import com.resumetracker.matcher.SkillQuery;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import com.resumetracker.parser.JobDescriptionParser;
+import com.resumetracker.parser.ResumeParser;
+import com.resumetracker.parser.StreamingPdfExtractor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Headless command-line entry point for batch ingestion and matching.
+ * Uses the same parser, matcher and database as MainApp but never loads JavaFX,
+ * so it runs on servers without a display and starts without toolkit initialisation.
+ *
+ * Usage:
+ *   java -cp resume-parser-job-matcher.jar com.resumetracker.CliApp [options]
+ *
+ * Ranked results are written as CSV to stdout (or --csv file); progress and log output go to stderr.
+ */
+public class CliApp {
+    private static final String CSV_HEADER =
+        "job_title,rank,candidate_id,candidate_name,email,match_score,matched_skills,missing_skills";
+
+    private final List<File> jobFiles = new ArrayList<>();
+    private final List<SkillQuery> queries = new ArrayList<>();
+    private boolean allJobs;
+    private boolean textScoring;
+    private double textWeight = JobMatcher.DEFAULT_TEXT_WEIGHT;
+    private File ingestDirectory;
+    private File csvFile;
+    private int topN = Integer.MAX_VALUE;
+    private double threshold = 0.0;
+    private double minYears = -1.0;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double nearDuplicateThreshold = BatchIngestionEngine.DEFAULT_NEAR_DUPLICATE_THRESHOLD;
+
+    public static void main(String[] args) {
+        // Results own stdout; everything the library logs goes to stderr instead
+        PrintStream results = System.out;
+        System.setOut(System.err);
+
+        CliApp app = new CliApp();
+        try {
+            if (!app.parseArguments(args)) {
+                printUsage();
+                System.exit(2);
+            }
+            app.run(results);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses command line options.
+     * @return false if there is nothing to do
+     */
+    boolean parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--ingest":
+                    ingestDirectory = new File(requireValue(args, ++i, arg));
+                    break;
+                case "--job":
+                    jobFiles.add(new File(requireValue(args, ++i, arg)));
+                    break;
+                case "--query":
+                    queries.add(SkillQuery.parse(requireValue(args, ++i, arg)));
+                    break;
+                case "--all-jobs":
+                    allJobs = true;
+                    break;
+                case "--text":
+                    textScoring = true;
+                    break;
+                case "--text-weight":
+                    textWeight = Double.parseDouble(requireValue(args, ++i, arg));
+                    textScoring = true;
+                    break;
+                case "--csv":
+                    csvFile = new File(requireValue(args, ++i, arg));
+                    break;
+                case "--top":
+                    topN = parsePositiveInt(requireValue(args, ++i, arg), arg);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(requireValue(args, ++i, arg));
+                    break;
+                case "--min-years":
+                    minYears = Double.parseDouble(requireValue(args, ++i, arg));
+                    break;
+                case "--threads":
+                    threads = parsePositiveInt(requireValue(args, ++i, arg), arg);
+                    break;
+                case "--near-duplicates":
+                    nearDuplicateThreshold = Double.parseDouble(requireValue(args, ++i, arg));
+                    break;
+                case "--help":
+                case "-h":
+                    return false;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return ingestDirectory != null || !jobFiles.isEmpty() || allJobs || !queries.isEmpty();
+    }
+
+    /**
+     * Ingests the resume directory (if given), then matches every requested job against all candidates.
+     */
+    void run(PrintStream stdout) throws IOException {
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        dbManager.connect();
+
+        try {
+            if (ingestDirectory != null) {
+                ingest(dbManager);
+            }
+            if (!jobFiles.isEmpty() || allJobs || !queries.isEmpty()) {
+                match(dbManager, stdout);
+            }
+        } finally {
+            dbManager.close();
+        }
+    }
+
+    /**
+     * Parses every supported resume file under the ingest directory into the database.
+     */
+    private void ingest(DatabaseManager dbManager) throws IOException {
+        if (!ingestDirectory.isDirectory()) {
+            throw new IllegalArgumentException("Not a directory: " + ingestDirectory);
+        }
+
+        List<File> files;
+        try (Stream<Path> paths = Files.walk(ingestDirectory.toPath())) {
+            files = paths
+                .filter(Files::isRegularFile)
+                .map(Path::toFile)
+                .filter(CliApp::isResumeFile)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+
+        System.err.println("Ingesting " + files.size() + " resume file(s) from " + ingestDirectory +
+            " with " + threads + " thread(s)...");
+
+        BatchIngestionEngine engine = new BatchIngestionEngine(
+            new ResumeParser(new StreamingPdfExtractor()), dbManager, threads);
+        engine.setNearDuplicateThreshold(nearDuplicateThreshold);
+        List<IngestionResult> results = engine.ingest(files, (result, completed, total) -> {
+            if (!result.isSuccess()) {
+                System.err.println("FAILED " + result.getFile() +
+                    (result.getError() != null ? ": " + result.getError().getMessage() : ""));
+            }
+        });
+
+        int success = 0;
+        int duplicates = 0;
+        int nearDuplicates = 0;
+        for (IngestionResult result : results) {
+            if (result.isSuccess()) {
+                success++;
+                if (result.isDuplicate()) {
+                    duplicates++;
+                } else if (result.isNearDuplicate()) {
+                    nearDuplicates++;
+                }
+            }
+        }
+        System.err.printf("Ingested %d of %d file(s) (%d already in database, %d near-duplicates linked), %d failed%n",
+            success, files.size(), duplicates, nearDuplicates, files.size() - success);
+    }
+
+    /**
+     * Matches all candidates against every job in one batch and streams ranked rows as CSV,
+     * one job at a time as each job's results become available, then runs each skill query.
+     */
+    private void match(DatabaseManager dbManager, PrintStream stdout) throws IOException {
+        JobDescriptionParser jobParser = new JobDescriptionParser();
+        List<JobDescription> jobs = new ArrayList<>();
+
+        for (File jobFile : jobFiles) {
+            String text = new String(Files.readAllBytes(jobFile.toPath()), StandardCharsets.UTF_8);
+            JobDescription job = jobParser.parse(text);
+
+            if (!jobParser.isValid(job)) {
+                System.err.println("Skipping " + jobFile + ": no job title or required skills found");
+                continue;
+            }
+            jobs.add(job);
+        }
+        if (allJobs) {
+            jobs.addAll(dbManager.getAllJobDescriptions());
+        }
+
+        // The years prefilter runs in SQL on the indexed experience_years column
+        List<Candidate> candidates = minYears >= 0.0
+            ? dbManager.getCandidatesWithExperience(minYears)
+            : dbManager.getAllCandidates();
+        ResumeTextIndex textIndex = null;
+        if (textScoring) {
+            textIndex = new ResumeTextIndex();
+            textIndex.load(dbManager);
+        }
+        JobMatcher jobMatcher = new JobMatcher(ForkJoinPool.commonPool(), textIndex, textWeight);
+
+        PrintWriter out = csvFile != null
+            ? new PrintWriter(new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8))
+            : new PrintWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8));
+
+        try {
+            out.println(CSV_HEADER);
+            jobMatcher.matchJobs(jobs, candidates, topN, threshold, (job, ranked, completed, total) -> {
+                for (int rank = 0; rank < ranked.size(); rank++) {
+                    writeRow(out, job, rank + 1, ranked.get(rank));
+                }
+                // Flush per job so downstream consumers see results as soon as each job is done
+                out.flush();
+                System.err.println("Matched job " + completed + " of " + total + ": " + job.getJobTitle());
+            });
+
+            if (!queries.isEmpty()) {
+                // Queries run on the skill postings, so only candidates passing the filters are scored
+                SkillIndex skillIndex = new SkillIndex();
+                skillIndex.addAll(candidates);
+                for (SkillQuery query : queries) {
+                    JobDescription job = new JobDescription(query.toString(), query.getScoredSkills(), 0);
+                    List<MatchResult> ranked = jobMatcher.findTopMatches(skillIndex, query, job, topN, threshold);
+                    for (int rank = 0; rank < ranked.size(); rank++) {
+                        writeRow(out, job, rank + 1, ranked.get(rank));
+                    }
+                    out.flush();
+                }
+            }
+        } finally {
+            if (csvFile != null) {
+                out.close();
+            } else {
+                out.flush();
+            }
+        }
+    }
+
+    private void writeRow(PrintWriter out, JobDescription job, int rank, MatchResult result) {
+        Candidate candidate = result.getCandidate();
+        out.println(String.join(",",
+            csv(job.getJobTitle()),
+            Integer.toString(rank),
+            Integer.toString(candidate.getId()),
+            csv(candidate.getName()),
+            csv(candidate.getEmail()),
+            String.format(Locale.ROOT, "%.1f", result.getMatchScore()),
+            csv(String.join("; ", result.getMatchedSkills())),
+            csv(String.join("; ", result.getMissingSkills()))));
+    }
+
+    /**
+     * Quotes a CSV field when it contains a separator, quote or line break.
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 &&
+            value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isResumeFile(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        return name.endsWith(".pdf") || name.endsWith(".docx") || name.endsWith(".txt");
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int parsePositiveInt(String value, String option) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(option + " must be a positive integer: " + value);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: java -cp resume-parser-job-matcher.jar com.resumetracker.CliApp [options]");
+        System.err.println("  --ingest <dir>       Parse all PDF/DOCX/TXT resumes under <dir> into the database");
+        System.err.println("  --job <file>         Match all candidates against a job description file (repeatable)");
+        System.err.println("  --query <q>          Match all candidates against a skill query, e.g. '+java kafka^2 pulsar -php' (repeatable)");
+        System.err.println("  --all-jobs           Match all candidates against every job description saved in the database");
+        System.err.println("  --text               Also score the full resume text against the required skills (BM25)");
+        System.err.println("  --text-weight <w>    Share of the score given to resume text (0-1, default 0.2); implies --text");
+        System.err.println("  --top <n>            Only output the top <n> candidates per job");
+        System.err.println("  --threshold <score>  Only output candidates scoring at least <score> (0-100)");
+        System.err.println("  --min-years <n>      Only match candidates with at least <n> years of experience");
+        System.err.println("  --csv <file>         Write results to <file> instead of stdout");
+        System.err.println("  --threads <n>        Number of resume parsing threads (default: CPU count)");
+        System.err.println("  --near-duplicates <j> Link resumes at least <j> similar (0-1, default 0.8) to the original; 0 disables");
+    }
+}
@@ -1,12 +1,20 @@
 package com.resumetracker;
 
 import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.ingest.BatchIngestionEngine;
+import com.resumetracker.ingest.IngestionResult;
 import com.resumetracker.matcher.JobMatcher;
+import com.resumetracker.matcher.LeaderboardManager;
+import com.resumetracker.matcher.MatchCache;
+import com.resumetracker.matcher.ResumeTextIndex;
+import com.resumetracker.matcher.SkillIndex;
 import com.resumetracker.model.Candidate;
 import com.resumetracker.model.JobDescription;
 import com.resumetracker.model.MatchResult;
 import com.resumetracker.parser.ResumeParser;
+import com.resumetracker.parser.StreamingPdfExtractor;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -17,26 +25,41 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.*;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Main JavaFX application for Resume Parser and Job Matcher.
  * Provides a GUI for loading resumes, entering job descriptions, and viewing match results.
  */
 public class MainApp extends Application {
+    // Recruiters only review the best matches, so only these are scored in full and shown
+    private static final int MAX_DISPLAYED_MATCHES = 50;
+    // Recent match queries kept so that matching the same job again is instant
+    private static final int CACHED_MATCH_QUERIES = 32;
+    // Set to a weight between 0 and 1 to also score resume text (BM25), e.g. -Dresumetracker.textWeight=0.2
+    private static final String TEXT_WEIGHT_PROPERTY = "resumetracker.textWeight";
+
     private DatabaseManager dbManager;
     private ResumeParser resumeParser;
     private JobMatcher jobMatcher;
+    private SkillIndex skillIndex;
+    private MatchCache matchCache;
+    private LeaderboardManager leaderboardManager;
+    private BatchIngestionEngine ingestionEngine;
     
     // UI Components
     private TextArea jobDescriptionArea;
     private TableView<MatchResult> resultsTable;
     private Label statusLabel;
+    private Button loadResumesButton;
     private ListView<String> loadedCandidatesList;
+    private ComboBox<JobDescription> savedJobsBox;
     private ObservableList<MatchResult> matchResults;
     private ObservableList<String> loadedCandidates;
 
@@ -68,13 +91,49 @@ public class MainApp extends Application {
         dbManager = DatabaseManager.getInstance();
         dbManager.connect();
         
-        resumeParser = new ResumeParser();
-        jobMatcher = new JobMatcher();
+        // Stream PDFs page by page so large scanned files cannot exhaust the heap during bulk loads
+        resumeParser = new ResumeParser(new StreamingPdfExtractor());
+        // Large candidate pools are scored on all cores
+        jobMatcher = createJobMatcher();
+
+        // Index candidate skills once; inserts and deletes keep it in sync from then on
+        skillIndex = new SkillIndex();
+        skillIndex.addAll(dbManager.getAllCandidates());
+        dbManager.addCandidateListener(skillIndex);
+        matchCache = new MatchCache(jobMatcher, skillIndex, dbManager, CACHED_MATCH_QUERIES);
+
+        // Saved jobs keep their rankings up to date as candidates are added and removed
+        leaderboardManager = new LeaderboardManager(dbManager, jobMatcher, MAX_DISPLAYED_MATCHES);
+        leaderboardManager.load();
+        dbManager.addCandidateListener(leaderboardManager);
+
+        ingestionEngine = new BatchIngestionEngine(resumeParser, dbManager);
         
         matchResults = FXCollections.observableArrayList();
         loadedCandidates = FXCollections.observableArrayList();
     }
 
+    /**
+     * Creates the job matcher, with resume text scoring if a text weight is configured.
+     * The text index is loaded from the stored resume text and kept in sync like the skill index.
+     */
+    private JobMatcher createJobMatcher() {
+        String weight = System.getProperty(TEXT_WEIGHT_PROPERTY);
+        if (weight != null && !weight.trim().isEmpty()) {
+            try {
+                double textWeight = Double.parseDouble(weight.trim());
+                ResumeTextIndex textIndex = new ResumeTextIndex();
+                JobMatcher matcher = new JobMatcher(ForkJoinPool.commonPool(), textIndex, textWeight);
+                textIndex.load(dbManager);
+                dbManager.addCandidateListener(textIndex);
+                return matcher;
+            } catch (IllegalArgumentException e) {
+                System.err.println("Warning: Ignoring " + TEXT_WEIGHT_PROPERTY + "=" + weight + ": " + e.getMessage());
+            }
+        }
+        return new JobMatcher(ForkJoinPool.commonPool());
+    }
+
     /**
      * Creates the main scene with all UI components.
      */
@@ -133,7 +192,7 @@ public class MainApp extends Application {
         loadedCandidatesList = new ListView<>(loadedCandidates);
         loadedCandidatesList.setPrefHeight(300);
 
-        Button loadResumesButton = new Button("Load Resume(s)");
+        loadResumesButton = new Button("Load Resume(s)");
         loadResumesButton.setPrefWidth(250);
         loadResumesButton.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; -fx-font-size: 14px;");
         loadResumesButton.setOnAction(e -> handleLoadResumes());
@@ -184,11 +243,37 @@ public class MainApp extends Application {
         matchButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-font-size: 16px; -fx-font-weight: bold;");
         matchButton.setOnAction(e -> handleMatchCandidates());
 
+        Button saveJobButton = new Button("Save Job");
+        saveJobButton.setPrefWidth(120);
+        saveJobButton.setOnAction(e -> handleSaveJob());
+
         HBox buttonBox = new HBox(10);
         buttonBox.setAlignment(Pos.CENTER);
-        buttonBox.getChildren().add(matchButton);
+        buttonBox.getChildren().addAll(matchButton, saveJobButton);
+
+        // Saved jobs: selecting one shows its stored ranking without rescoring all candidates
+        Label savedJobsLabel = new Label("Saved Jobs:");
+        savedJobsBox = new ComboBox<>(FXCollections.observableArrayList(leaderboardManager.getSavedJobs()));
+        savedJobsBox.setPromptText("Open a saved job's ranking...");
+        savedJobsBox.setPrefWidth(300);
+        savedJobsBox.setConverter(new StringConverter<JobDescription>() {
+            @Override
+            public String toString(JobDescription job) {
+                return job == null ? "" : String.format("#%d %s", job.getId(), job.getJobTitle());
+            }
+
+            @Override
+            public JobDescription fromString(String text) {
+                return null;
+            }
+        });
+        savedJobsBox.setOnAction(e -> handleOpenSavedJob());
+
+        HBox savedJobsRow = new HBox(10);
+        savedJobsRow.setAlignment(Pos.CENTER);
+        savedJobsRow.getChildren().addAll(savedJobsLabel, savedJobsBox);
 
-        centerBox.getChildren().addAll(jobDescLabel, jobDescriptionArea, buttonBox);
+        centerBox.getChildren().addAll(jobDescLabel, jobDescriptionArea, buttonBox, savedJobsRow);
         return centerBox;
     }
 
@@ -281,39 +366,51 @@ public class MainApp extends Application {
         List<File> selectedFiles = fileChooser.showOpenMultipleDialog(null);
 
         if (selectedFiles != null && !selectedFiles.isEmpty()) {
-            int successCount = 0;
-            int failCount = 0;
-
-            for (File file : selectedFiles) {
-                try {
-                    updateStatus("Parsing: " + file.getName() + "...");
-                    Candidate candidate = resumeParser.parseFile(file);
-                    
-                    // Save to database
-                    int id = dbManager.insertCandidate(candidate);
-                    
-                    if (id > 0) {
+            loadResumesButton.setDisable(true);
+            updateStatus("Parsing " + selectedFiles.size() + " resume(s)...");
+
+            // Parse on a background thread so the UI stays responsive during large loads
+            Thread ingestionThread = new Thread(() -> {
+                List<IngestionResult> results = ingestionEngine.ingest(selectedFiles,
+                    (result, completed, total) -> Platform.runLater(() ->
+                        updateStatus(String.format("Parsed %d of %d: %s", completed, total, result.getFile().getName()))));
+
+                int successCount = 0;
+                int duplicateCount = 0;
+                int nearDuplicateCount = 0;
+                for (IngestionResult result : results) {
+                    if (result.isSuccess()) {
                         successCount++;
-                    } else {
-                        failCount++;
+                        if (result.isDuplicate()) {
+                            duplicateCount++;
+                        } else if (result.isNearDuplicate()) {
+                            nearDuplicateCount++;
+                        }
                     }
-                } catch (Exception e) {
-                    System.err.println("Error parsing file " + file.getName() + ": " + e.getMessage());
-                    e.printStackTrace();
-                    failCount++;
                 }
-            }
-
-            // Refresh candidates list
-            refreshCandidatesList();
-
-            // Show results
-            String message = String.format(
-                "Successfully loaded %d resume(s).\nFailed: %d",
-                successCount, failCount
-            );
-            showAlert(Alert.AlertType.INFORMATION, "Load Complete", "Resume Loading Results", message);
-            updateStatus("Ready - " + successCount + " resumes loaded");
+                int failCount = selectedFiles.size() - successCount;
+                int loaded = successCount;
+                int duplicates = duplicateCount;
+                int nearDuplicates = nearDuplicateCount;
+
+                Platform.runLater(() -> {
+                    loadResumesButton.setDisable(false);
+
+                    // Refresh candidates list
+                    refreshCandidatesList();
+
+                    // Show results
+                    String message = String.format(
+                        "Successfully loaded %d resume(s) (%d already in database, %d near-duplicates of " +
+                        "loaded resumes).\nFailed: %d",
+                        loaded, duplicates, nearDuplicates, failCount
+                    );
+                    showAlert(Alert.AlertType.INFORMATION, "Load Complete", "Resume Loading Results", message);
+                    updateStatus("Ready - " + loaded + " resumes loaded");
+                });
+            }, "resume-ingestion");
+            ingestionThread.setDaemon(true);
+            ingestionThread.start();
         }
     }
 
@@ -340,26 +437,24 @@ public class MainApp extends Application {
             return;
         }
 
-        // Get all candidates from database
-        List<Candidate> candidates = dbManager.getAllCandidates();
-
-        if (candidates.isEmpty()) {
+        if (skillIndex.size() == 0) {
             showAlert(Alert.AlertType.WARNING, "No Candidates", 
                 "No candidates found", 
                 "Please load some resumes first.");
             return;
         }
 
-        updateStatus("Matching " + candidates.size() + " candidates...");
+        updateStatus("Matching " + skillIndex.size() + " candidates...");
 
-        // Perform matching
-        List<MatchResult> results = jobMatcher.matchMultipleCandidates(candidates, jobDesc);
+        // Perform matching against candidates sharing at least one required skill
+        // Repeated queries are answered from the cache until candidates are added or removed
+        List<MatchResult> results = matchCache.findTopMatches(jobDesc, MAX_DISPLAYED_MATCHES, 0.0);
 
         // Update table
         matchResults.clear();
         matchResults.addAll(results);
 
-        updateStatus("Match complete - " + results.size() + " candidates matched");
+        updateStatus("Match complete - showing top " + results.size() + " candidates");
         
         // Show summary
         if (!results.isEmpty()) {
@@ -372,6 +467,55 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Handles saving the entered job description and building its leaderboard.
+     */
+    private void handleSaveJob() {
+        String jobDescText = jobDescriptionArea.getText().trim();
+
+        if (jobDescText.isEmpty()) {
+            showAlert(Alert.AlertType.WARNING, "No Job Description",
+                "Empty Job Description",
+                "Please enter a job description before saving.");
+            return;
+        }
+
+        JobDescription jobDesc = parseJobDescription(jobDescText);
+
+        if (jobDesc.getRequiredSkills().isEmpty()) {
+            showAlert(Alert.AlertType.WARNING, "No Skills Found",
+                "Could not extract skills",
+                "Please make sure the job description includes required skills.");
+            return;
+        }
+
+        if (!leaderboardManager.saveJob(jobDesc)) {
+            showAlert(Alert.AlertType.ERROR, "Save Failed",
+                "Could not save job", "The job description could not be stored in the database.");
+            return;
+        }
+
+        savedJobsBox.getItems().add(jobDesc);
+        savedJobsBox.getSelectionModel().select(jobDesc);
+        updateStatus("Saved job: " + jobDesc.getJobTitle());
+    }
+
+    /**
+     * Handles selecting a saved job: shows its stored leaderboard in the results table.
+     */
+    private void handleOpenSavedJob() {
+        JobDescription job = savedJobsBox.getValue();
+        if (job == null) {
+            return;
+        }
+
+        List<MatchResult> results = leaderboardManager.getLeaderboard(job.getId());
+        matchResults.clear();
+        matchResults.addAll(results);
+
+        updateStatus("Leaderboard for " + job.getJobTitle() + " - top " + results.size() + " candidates");
+    }
+
     /**
      * Parses a job description text into a JobDescription object.
      */
@@ -529,6 +673,9 @@ public class MainApp extends Application {
      * Cleanup when application closes.
      */
     private void cleanup() {
+        if (leaderboardManager != null) {
+            leaderboardManager.close();
+        }
         if (dbManager != null) {
             dbManager.close();
         }
@@ -0,0 +1,28 @@
+package com.resumetracker.database;
+
+import com.resumetracker.model.Candidate;
+
+import java.util.List;
+
+/**
+ * Receives notifications when candidates are added to or removed from the database,
+ * so in-memory structures built from the candidates table can stay in sync.
+ * Callbacks are made on the thread that performed the write, after it has been committed.
+ */
+public interface CandidateChangeListener {
+
+    /**
+     * Called after one or more candidates have been inserted. Near-duplicate resumes
+     * (see Candidate.getDuplicateOf) are stored but never matched, so they are not reported.
+     *
+     * @param candidates The inserted candidates, with their generated IDs set
+     */
+    void candidatesInserted(List<Candidate> candidates);
+
+    /**
+     * Called after a candidate has been deleted.
+     *
+     * @param id The ID of the deleted candidate
+     */
+    void candidateDeleted(int id);
+}
@@ -2,21 +2,43 @@ package com.resumetracker.database;
 
 import com.resumetracker.model.Candidate;
 import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.LeaderboardEntry;
 
+import java.nio.ByteBuffer;
 import java.sql.*;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 /**
  * Manages all database operations for the Resume Tracker application.
  * Uses the Singleton pattern to ensure only one database connection exists.
  * Handles SQLite database creation, connection, and CRUD operations.
+ *
+ * The connection is shared by the ingestion thread and the UI thread, so every method that
+ * uses it holds this manager's lock: a batch transaction can never pick up, or roll back, a
+ * write made by another thread while it is open. Candidate listeners are notified after the
+ * lock is released, so they can call back into the manager from any thread.
  */
 public class DatabaseManager {
     private static DatabaseManager instance;
     private Connection connection;
     private static final String DATABASE_URL = "jdbc:sqlite:database.db";
+    private static final int MAX_QUERY_PARAMETERS = 500;
+    // Columns read by readCandidate; the resume text and MinHash signature are only read where needed
+    private static final String CANDIDATE_COLUMNS =
+        "id, name, email, phone, skills, education, experience, content_hash, duplicate_of, " +
+        "experience_years, experience_since";
+    private final List<CandidateChangeListener> candidateListeners = new CopyOnWriteArrayList<>();
+    // Bumped after every change to the matchable candidates, once listeners have been notified
+    private final AtomicLong corpusVersion = new AtomicLong();
 
     /**
      * Private constructor to prevent direct instantiation (Singleton pattern).
@@ -40,11 +62,20 @@ public class DatabaseManager {
      * Establishes a connection to the SQLite database.
      * Creates the database file if it doesn't exist.
      */
-    public void connect() {
+    public synchronized void connect() {
+        connect(DATABASE_URL);
+    }
+
+    /**
+     * Establishes a connection to the SQLite database at the given JDBC URL, e.g. a separate
+     * file for tests. Does nothing if a connection is already open.
+     * @param databaseUrl The JDBC URL of the database
+     */
+    public synchronized void connect(String databaseUrl) {
         try {
             if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(DATABASE_URL);
-                System.out.println("Connected to SQLite database: " + DATABASE_URL);
+                connection = DriverManager.getConnection(databaseUrl);
+                System.out.println("Connected to SQLite database: " + databaseUrl);
                 createTables();
             }
         } catch (SQLException e) {
@@ -55,9 +86,9 @@ public class DatabaseManager {
 
     /**
      * Creates the necessary database tables if they don't exist.
-     * Tables: candidates, job_descriptions
+     * Tables: candidates, job_descriptions, job_leaderboards
      */
-    public void createTables() {
+    public synchronized void createTables() {
         // SQL statement to create candidates table
         String createCandidatesTable = "CREATE TABLE IF NOT EXISTS candidates (" +
                 "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
@@ -66,7 +97,13 @@ public class DatabaseManager {
                 "phone TEXT, " +
                 "skills TEXT, " +
                 "education TEXT, " +
-                "experience TEXT" +
+                "experience TEXT, " +
+                "content_hash TEXT, " +
+                "resume_text TEXT, " +
+                "minhash BLOB, " +
+                "duplicate_of INTEGER, " +
+                "experience_years REAL NOT NULL DEFAULT -1, " +
+                "experience_since INTEGER" +
                 ");";
 
         // SQL statement to create job_descriptions table
@@ -75,12 +112,44 @@ public class DatabaseManager {
                 "title TEXT NOT NULL, " +
                 "required_skills TEXT, " +
                 "required_experience INTEGER, " +
-                "raw_description TEXT" +
+                "raw_description TEXT, " +
+                "leaderboard_truncated INTEGER NOT NULL DEFAULT 1" +
+                ");";
+
+        // SQL statement to create job_leaderboards table (best candidates per saved job)
+        String createJobLeaderboardsTable = "CREATE TABLE IF NOT EXISTS job_leaderboards (" +
+                "job_id INTEGER NOT NULL, " +
+                "candidate_id INTEGER NOT NULL, " +
+                "match_score REAL NOT NULL, " +
+                "PRIMARY KEY (job_id, candidate_id)" +
                 ");";
 
         try (Statement stmt = connection.createStatement()) {
             stmt.execute(createCandidatesTable);
             stmt.execute(createJobDescriptionsTable);
+            stmt.execute(createJobLeaderboardsTable);
+            addColumnIfMissing("candidates", "content_hash", "TEXT");
+            addColumnIfMissing("candidates", "resume_text", "TEXT");
+            addColumnIfMissing("candidates", "minhash", "BLOB");
+            // ID of the original candidate for near-duplicate resumes, NULL for originals
+            addColumnIfMissing("candidates", "duplicate_of", "INTEGER");
+            // Years from the finished experience date ranges; -1 = unknown (e.g. parsed by older versions)
+            addColumnIfMissing("candidates", "experience_years", "REAL NOT NULL DEFAULT -1");
+            // Start month (year * 12 + month - 1) of a date range running to the present, NULL if none
+            addColumnIfMissing("candidates", "experience_since", "INTEGER");
+            // 1 = the leaderboard may be missing candidates; older saved jobs get rebuilt on first read
+            addColumnIfMissing("job_descriptions", "leaderboard_truncated", "INTEGER NOT NULL DEFAULT 1");
+            // Unique so the same file can never be stored twice; SQLite allows many NULLs
+            stmt.execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_candidates_content_hash " +
+                         "ON candidates(content_hash)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_candidates_duplicate_of " +
+                         "ON candidates(duplicate_of)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_candidates_experience_years " +
+                         "ON candidates(experience_years)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_candidates_experience_since " +
+                         "ON candidates(experience_since)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_job_leaderboards_candidate " +
+                         "ON job_leaderboards(candidate_id)");
             System.out.println("Database tables created successfully.");
         } catch (SQLException e) {
             System.err.println("Error creating tables: " + e.getMessage());
@@ -88,14 +157,45 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Adds a column to an existing table if it is not there yet.
+     * Lets databases created by older versions pick up new columns without losing data.
+     */
+    private void addColumnIfMissing(String table, String column, String type) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+            System.out.println("Added column " + column + " to table " + table + ".");
+        }
+    }
+
     /**
      * Inserts a candidate into the database.
      * @param candidate The candidate object to insert
      * @return The generated ID of the inserted candidate, or -1 if insertion failed
      */
     public int insertCandidate(Candidate candidate) {
-        String sql = "INSERT INTO candidates(name, email, phone, skills, education, experience) " +
-                     "VALUES(?, ?, ?, ?, ?, ?)";
+        int id = insertRow(candidate);
+        if (id > 0) {
+            fireCandidatesInserted(Collections.singletonList(candidate));
+        }
+        return id;
+    }
+
+    /**
+     * Helper method to insert one candidate row and set its ID, without notifying listeners.
+     */
+    private synchronized int insertRow(Candidate candidate) {
+        String sql = "INSERT INTO candidates(name, email, phone, skills, education, experience, content_hash, " +
+                     "resume_text, minhash, duplicate_of, experience_years, experience_since) " +
+                     "VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setString(1, candidate.getName());
@@ -104,6 +204,10 @@ public class DatabaseManager {
             pstmt.setString(4, candidate.getSkillsAsString());
             pstmt.setString(5, candidate.getEducationAsString());
             pstmt.setString(6, candidate.getWorkExperienceAsString());
+            pstmt.setString(7, candidate.getContentHash());
+            pstmt.setString(8, candidate.getResumeText());
+            setNearDuplicateColumns(pstmt, candidate);
+            setExperienceColumns(pstmt, candidate);
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -126,36 +230,89 @@ public class DatabaseManager {
     }
 
     /**
-     * Retrieves all candidates from the database.
-     * @return A list of all candidates
+     * Inserts several candidates in a single transaction.
+     * Much faster than one insertCandidate call per row for bulk loads,
+     * since SQLite only has to commit once per batch.
+     *
+     * A candidate whose content hash is already stored (e.g. by another ingestion running at the
+     * same time) is skipped instead of failing the whole batch, and keeps ID 0.
+     * @param candidates The candidates to insert; each successfully inserted candidate gets its ID set
+     * @return The number of candidates inserted
+     */
+    public int insertCandidates(List<Candidate> candidates) {
+        List<Candidate> inserted = insertRows(candidates);
+        if (!inserted.isEmpty()) {
+            fireCandidatesInserted(inserted);
+        }
+        return inserted.size();
+    }
+
+    /**
+     * Helper method to insert candidate rows in one transaction and set their IDs,
+     * without notifying listeners.
+     * @return The candidates that were inserted
+     */
+    private synchronized List<Candidate> insertRows(List<Candidate> candidates) {
+        String sql = "INSERT OR IGNORE INTO candidates(name, email, phone, skills, education, experience, content_hash, " +
+                     "resume_text, minhash, duplicate_of, experience_years, experience_since) " +
+                     "VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Candidate> inserted = new ArrayList<>();
+
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Candidate candidate : candidates) {
+                    pstmt.setString(1, candidate.getName());
+                    pstmt.setString(2, candidate.getEmail());
+                    pstmt.setString(3, candidate.getPhone());
+                    pstmt.setString(4, candidate.getSkillsAsString());
+                    pstmt.setString(5, candidate.getEducationAsString());
+                    pstmt.setString(6, candidate.getWorkExperienceAsString());
+                    pstmt.setString(7, candidate.getContentHash());
+                    pstmt.setString(8, candidate.getResumeText());
+                    setNearDuplicateColumns(pstmt, candidate);
+                    setExperienceColumns(pstmt, candidate);
+
+                    if (pstmt.executeUpdate() > 0) {
+                        try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                candidate.setId(generatedKeys.getInt(1));
+                                inserted.add(candidate);
+                            }
+                        }
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                for (Candidate candidate : candidates) {
+                    candidate.setId(0);
+                }
+                inserted.clear();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error inserting candidate batch: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return inserted;
+    }
+
+    /**
+     * Retrieves all candidates from the database, except near-duplicates of other candidates.
+     * @return A list of all original candidates
      */
-    public List<Candidate> getAllCandidates() {
+    public synchronized List<Candidate> getAllCandidates() {
         List<Candidate> candidates = new ArrayList<>();
-        String sql = "SELECT * FROM candidates";
+        String sql = "SELECT " + CANDIDATE_COLUMNS + " FROM candidates WHERE duplicate_of IS NULL";
 
         try (Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
             while (rs.next()) {
-                int id = rs.getInt("id");
-                String name = rs.getString("name");
-                String email = rs.getString("email");
-                String phone = rs.getString("phone");
-                
-                // Parse comma-separated skills
-                String skillsStr = rs.getString("skills");
-                List<String> skills = parseCommaSeparatedString(skillsStr);
-                
-                // Parse pipe-separated education
-                String educationStr = rs.getString("education");
-                List<String> education = parsePipeSeparatedString(educationStr);
-                
-                // Parse pipe-separated experience
-                String experienceStr = rs.getString("experience");
-                List<String> experience = parsePipeSeparatedString(experienceStr);
-
-                Candidate candidate = new Candidate(id, name, email, phone, skills, education, experience);
-                candidates.add(candidate);
+                candidates.add(readCandidate(rs));
             }
 
             System.out.println("Retrieved " + candidates.size() + " candidates from database.");
@@ -168,27 +325,53 @@ public class DatabaseManager {
         return candidates;
     }
 
+    /**
+     * Retrieves the candidates (except near-duplicates) whose resumes cover at least the given
+     * years of experience as of this month. Uses the experience_years and experience_since
+     * indexes, so the database does the filtering. Candidates whose experience is unknown are left out.
+     * @param minYears Minimum total years of experience
+     * @return The matching candidates, in ID order
+     */
+    public synchronized List<Candidate> getCandidatesWithExperience(double minYears) {
+        List<Candidate> candidates = new ArrayList<>();
+        // An ongoing range counts up to and including the current month
+        String sql = "SELECT " + CANDIDATE_COLUMNS + " FROM candidates " +
+                     "WHERE (experience_years >= ? OR (experience_since IS NOT NULL AND " +
+                     "experience_years + (? - experience_since) / 12.0 >= ?)) " +
+                     "AND duplicate_of IS NULL ORDER BY id";
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            YearMonth now = YearMonth.now();
+            pstmt.setDouble(1, Math.max(0.0, minYears));
+            pstmt.setInt(2, now.getYear() * 12 + now.getMonthValue());
+            pstmt.setDouble(3, Math.max(0.0, minYears));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    candidates.add(readCandidate(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving candidates by experience: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return candidates;
+    }
+
     /**
      * Retrieves a candidate by ID.
      * @param id The candidate's ID
      * @return The candidate object, or null if not found
      */
-    public Candidate getCandidateById(int id) {
-        String sql = "SELECT * FROM candidates WHERE id = ?";
+    public synchronized Candidate getCandidateById(int id) {
+        String sql = "SELECT " + CANDIDATE_COLUMNS + " FROM candidates WHERE id = ?";
 
         try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
             pstmt.setInt(1, id);
             ResultSet rs = pstmt.executeQuery();
 
             if (rs.next()) {
-                String name = rs.getString("name");
-                String email = rs.getString("email");
-                String phone = rs.getString("phone");
-                List<String> skills = parseCommaSeparatedString(rs.getString("skills"));
-                List<String> education = parsePipeSeparatedString(rs.getString("education"));
-                List<String> experience = parsePipeSeparatedString(rs.getString("experience"));
-
-                return new Candidate(id, name, email, phone, skills, education, experience);
+                return readCandidate(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving candidate: " + e.getMessage());
@@ -198,12 +381,136 @@ public class DatabaseManager {
         return null;
     }
 
+    /**
+     * Retrieves several candidates by ID in one query per few hundred IDs.
+     * @param ids The candidate IDs to read
+     * @return The candidates found, by ID; unknown IDs are left out
+     */
+    public synchronized Map<Integer, Candidate> getCandidatesByIds(List<Integer> ids) {
+        Map<Integer, Candidate> candidates = new HashMap<>();
+
+        // Stay well below SQLite's limit on query parameters
+        for (int from = 0; from < ids.size(); from += MAX_QUERY_PARAMETERS) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_QUERY_PARAMETERS));
+            String sql = "SELECT " + CANDIDATE_COLUMNS + " FROM candidates WHERE id IN (" +
+                         String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    pstmt.setInt(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Candidate candidate = readCandidate(rs);
+                        candidates.put(candidate.getId(), candidate);
+                    }
+                }
+            } catch (SQLException e) {
+                System.err.println("Error retrieving candidates: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Retrieves the candidate that was parsed from a file with the given content hash.
+     * @param contentHash SHA-256 hex digest of the resume file bytes
+     * @return The candidate object, or null if no file with this content has been stored
+     */
+    public synchronized Candidate getCandidateByContentHash(String contentHash) {
+        String sql = "SELECT " + CANDIDATE_COLUMNS + " FROM candidates WHERE content_hash = ?";
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, contentHash);
+            ResultSet rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return readCandidate(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving candidate by content hash: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Retrieves the content hash index: file content hash to candidate ID.
+     * Lets bulk ingestion recognise already-stored files without a query per file.
+     * @return Map from SHA-256 hex digest to candidate ID
+     */
+    public synchronized Map<String, Integer> getContentHashIndex() {
+        Map<String, Integer> index = new HashMap<>();
+        String sql = "SELECT id, content_hash FROM candidates WHERE content_hash IS NOT NULL";
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                index.put(rs.getString("content_hash"), rs.getInt("id"));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving content hash index: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return index;
+    }
+
+    /**
+     * Retrieves the MinHash signatures of all original candidates (not near-duplicates),
+     * for finding near-duplicates of newly ingested resumes.
+     * @return Map from candidate ID to MinHash signature
+     */
+    public synchronized Map<Integer, int[]> getMinHashSignatures() {
+        Map<Integer, int[]> signatures = new HashMap<>();
+        String sql = "SELECT id, minhash FROM candidates WHERE minhash IS NOT NULL AND duplicate_of IS NULL";
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                signatures.put(rs.getInt("id"), fromBlob(rs.getBytes("minhash")));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving MinHash signatures: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return signatures;
+    }
+
+    /**
+     * Passes the stored resume text of every original candidate that has one to the consumer, in ID order.
+     * Rows are streamed rather than collected, so building a full-text index over a large
+     * database never holds all resume texts in memory at once.
+     * @param consumer Receives each candidate ID and its resume text
+     */
+    public synchronized void forEachResumeText(BiConsumer<Integer, String> consumer) {
+        String sql = "SELECT id, resume_text FROM candidates " +
+                     "WHERE resume_text IS NOT NULL AND duplicate_of IS NULL ORDER BY id";
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                consumer.accept(rs.getInt("id"), rs.getString("resume_text"));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving resume text: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Inserts a job description into the database.
      * @param jobDescription The job description object to insert
      * @return The generated ID of the inserted job description, or -1 if insertion failed
      */
-    public int insertJobDescription(JobDescription jobDescription) {
+    public synchronized int insertJobDescription(JobDescription jobDescription) {
         String sql = "INSERT INTO job_descriptions(title, required_skills, required_experience, raw_description) " +
                      "VALUES(?, ?, ?, ?)";
 
@@ -236,7 +543,7 @@ public class DatabaseManager {
      * Retrieves all job descriptions from the database.
      * @return A list of all job descriptions
      */
-    public List<JobDescription> getAllJobDescriptions() {
+    public synchronized List<JobDescription> getAllJobDescriptions() {
         List<JobDescription> jobs = new ArrayList<>();
         String sql = "SELECT * FROM job_descriptions";
 
@@ -265,32 +572,262 @@ public class DatabaseManager {
     }
 
     /**
-     * Deletes a candidate from the database.
+     * Retrieves the stored leaderboard of a saved job, best match first.
+     * @param jobId The job description's ID
+     * @return The leaderboard entries ordered by score (ties by candidate ID)
+     */
+    public synchronized List<LeaderboardEntry> getLeaderboardEntries(int jobId) {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        String sql = "SELECT job_id, candidate_id, match_score FROM job_leaderboards " +
+                     "WHERE job_id = ? ORDER BY match_score DESC, candidate_id ASC";
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, jobId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(new LeaderboardEntry(
+                        rs.getInt("job_id"), rs.getInt("candidate_id"), rs.getDouble("match_score")));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving leaderboard: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return entries;
+    }
+
+    /**
+     * Checks whether a saved job's leaderboard may be missing candidates, i.e. some candidates
+     * were left out because it was full. Jobs saved before leaderboards existed also count as truncated.
+     * @param jobId The job description's ID
+     * @return true if the leaderboard is truncated or the job is unknown
+     */
+    public synchronized boolean isLeaderboardTruncated(int jobId) {
+        String sql = "SELECT leaderboard_truncated FROM job_descriptions WHERE id = ?";
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, jobId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("leaderboard_truncated") != 0;
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading leaderboard state: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces a saved job's whole leaderboard in a single transaction.
+     * @param jobId The job description's ID
+     * @param entries The new leaderboard entries
+     * @param truncated Whether candidates were left out because the leaderboard was full
+     */
+    public synchronized void replaceLeaderboard(int jobId, List<LeaderboardEntry> entries, boolean truncated) {
+        updateLeaderboard(jobId, entries, null, truncated);
+    }
+
+    /**
+     * Applies incremental changes to a saved job's leaderboard in a single transaction.
+     * @param jobId The job description's ID
+     * @param added Entries to insert (or overwrite)
+     * @param removedCandidateIds Candidates to take off the leaderboard, or null to clear it first
+     * @param truncated Whether candidates have been left out because the leaderboard was full
+     */
+    public synchronized void updateLeaderboard(int jobId, List<LeaderboardEntry> added, List<Integer> removedCandidateIds,
+                                  boolean truncated) {
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement clearStmt = connection.prepareStatement(
+                     "DELETE FROM job_leaderboards WHERE job_id = ?");
+                 PreparedStatement removeStmt = connection.prepareStatement(
+                     "DELETE FROM job_leaderboards WHERE job_id = ? AND candidate_id = ?");
+                 PreparedStatement addStmt = connection.prepareStatement(
+                     "INSERT OR REPLACE INTO job_leaderboards(job_id, candidate_id, match_score) VALUES(?, ?, ?)");
+                 PreparedStatement stateStmt = connection.prepareStatement(
+                     "UPDATE job_descriptions SET leaderboard_truncated = ? WHERE id = ?")) {
+
+                if (removedCandidateIds == null) {
+                    clearStmt.setInt(1, jobId);
+                    clearStmt.executeUpdate();
+                } else {
+                    for (int candidateId : removedCandidateIds) {
+                        removeStmt.setInt(1, jobId);
+                        removeStmt.setInt(2, candidateId);
+                        removeStmt.addBatch();
+                    }
+                    removeStmt.executeBatch();
+                }
+
+                for (LeaderboardEntry entry : added) {
+                    addStmt.setInt(1, jobId);
+                    addStmt.setInt(2, entry.getCandidateId());
+                    addStmt.setDouble(3, entry.getMatchScore());
+                    addStmt.addBatch();
+                }
+                addStmt.executeBatch();
+
+                stateStmt.setInt(1, truncated ? 1 : 0);
+                stateStmt.setInt(2, jobId);
+                stateStmt.executeUpdate();
+
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error updating leaderboard: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Deletes a candidate from the database, together with its leaderboard entries, in one
+     * transaction. If other resumes were stored as near-duplicates of it, the earliest of them
+     * takes its place as an original, and the rest are linked to that one instead; listeners
+     * are told it was inserted, since it now takes part in matching.
      * @param id The ID of the candidate to delete
      * @return true if deletion was successful, false otherwise
      */
     public boolean deleteCandidate(int id) {
-        String sql = "DELETE FROM candidates WHERE id = ?";
+        Candidate promoted;
+        synchronized (this) {
+            int promotedId = deleteRows(id);
+            if (promotedId < 0) {
+                return false;
+            }
+            promoted = promotedId > 0 ? readWithResumeText(promotedId) : null;
+        }
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            int affectedRows = pstmt.executeUpdate();
-            
-            if (affectedRows > 0) {
+        for (CandidateChangeListener listener : candidateListeners) {
+            listener.candidateDeleted(id);
+        }
+        if (promoted != null) {
+            fireCandidatesInserted(Collections.singletonList(promoted));
+        }
+        corpusVersion.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Helper method to delete a candidate's rows in one transaction and promote its earliest
+     * near-duplicate, without notifying listeners.
+     * @return The ID of the promoted near-duplicate, 0 if there was none, or -1 if nothing was deleted
+     */
+    private synchronized int deleteRows(int id) {
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement deleteStmt = connection.prepareStatement(
+                     "DELETE FROM candidates WHERE id = ?");
+                 PreparedStatement firstDuplicateStmt = connection.prepareStatement(
+                     "SELECT MIN(id) FROM candidates WHERE duplicate_of = ?");
+                 PreparedStatement promoteStmt = connection.prepareStatement(
+                     "UPDATE candidates SET duplicate_of = NULL WHERE id = ?");
+                 PreparedStatement relinkStmt = connection.prepareStatement(
+                     "UPDATE candidates SET duplicate_of = ? WHERE duplicate_of = ?");
+                 PreparedStatement leaderboardStmt = connection.prepareStatement(
+                     "DELETE FROM job_leaderboards WHERE candidate_id = ?")) {
+
+                deleteStmt.setInt(1, id);
+                if (deleteStmt.executeUpdate() == 0) {
+                    connection.rollback();
+                    return -1;
+                }
+
+                int promotedId = 0;
+                firstDuplicateStmt.setInt(1, id);
+                try (ResultSet rs = firstDuplicateStmt.executeQuery()) {
+                    if (rs.next()) {
+                        promotedId = rs.getInt(1);
+                    }
+                }
+                if (promotedId > 0) {
+                    promoteStmt.setInt(1, promotedId);
+                    promoteStmt.executeUpdate();
+                    relinkStmt.setInt(1, promotedId);
+                    relinkStmt.setInt(2, id);
+                    relinkStmt.executeUpdate();
+                }
+
+                leaderboardStmt.setInt(1, id);
+                leaderboardStmt.executeUpdate();
+
+                connection.commit();
                 System.out.println("Candidate with ID " + id + " deleted successfully.");
-                return true;
+                return promotedId;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
             }
         } catch (SQLException e) {
             System.err.println("Error deleting candidate: " + e.getMessage());
             e.printStackTrace();
         }
-        return false;
+        return -1;
+    }
+
+    /**
+     * Helper method to read a candidate together with its resume text, for listeners that index it.
+     */
+    private synchronized Candidate readWithResumeText(int id) {
+        String sql = "SELECT " + CANDIDATE_COLUMNS + ", resume_text FROM candidates WHERE id = ?";
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    Candidate candidate = readCandidate(rs);
+                    candidate.setResumeText(rs.getString("resume_text"));
+                    return candidate;
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving candidate: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Registers a listener to be notified of candidate inserts and deletes.
+     * @param listener The listener to add
+     */
+    public void addCandidateListener(CandidateChangeListener listener) {
+        candidateListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered candidate listener.
+     * @param listener The listener to remove
+     */
+    public void removeCandidateListener(CandidateChangeListener listener) {
+        candidateListeners.remove(listener);
+    }
+
+    /**
+     * Returns a counter that changes whenever candidates that can be matched are inserted or
+     * deleted, for caches of match results to tell whether an entry is still current.
+     * It is bumped only after all candidate listeners have been notified, so once the new
+     * version is visible, indexes kept in sync by listeners already reflect the change.
+     * Read the version before computing a result to be cached.
+     * @return The current corpus version
+     */
+    public long getCorpusVersion() {
+        return corpusVersion.get();
     }
 
     /**
      * Closes the database connection.
      */
-    public void close() {
+    public synchronized void close() {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -302,6 +839,93 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Helper method to notify listeners of newly inserted candidates.
+     */
+    private void fireCandidatesInserted(List<Candidate> candidates) {
+        List<Candidate> originals = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (!candidate.isNearDuplicate()) {
+                originals.add(candidate);
+            }
+        }
+        if (originals.isEmpty()) {
+            return;
+        }
+
+        List<Candidate> inserted = Collections.unmodifiableList(originals);
+        for (CandidateChangeListener listener : candidateListeners) {
+            listener.candidatesInserted(inserted);
+        }
+        corpusVersion.incrementAndGet();
+    }
+
+    /**
+     * Helper method to build a Candidate from the current row of a candidates query.
+     */
+    private Candidate readCandidate(ResultSet rs) throws SQLException {
+        int id = rs.getInt("id");
+        String name = rs.getString("name");
+        String email = rs.getString("email");
+        String phone = rs.getString("phone");
+
+        // Parse comma-separated skills
+        List<String> skills = parseCommaSeparatedString(rs.getString("skills"));
+
+        // Parse pipe-separated education and experience
+        List<String> education = parsePipeSeparatedString(rs.getString("education"));
+        List<String> experience = parsePipeSeparatedString(rs.getString("experience"));
+
+        Candidate candidate = new Candidate(id, name, email, phone, skills, education, experience);
+        candidate.setContentHash(rs.getString("content_hash"));
+        candidate.setDuplicateOf(rs.getInt("duplicate_of"));
+        int experienceSince = rs.getInt("experience_since");
+        candidate.setExperience(rs.getDouble("experience_years"), rs.wasNull() ? -1 : experienceSince);
+        return candidate;
+    }
+
+    /**
+     * Helper method to set the experience_years and experience_since parameters (11 and 12) of a candidate insert.
+     */
+    private void setExperienceColumns(PreparedStatement pstmt, Candidate candidate) throws SQLException {
+        pstmt.setDouble(11, candidate.getFinishedExperienceYears());
+        if (candidate.getExperienceSince() >= 0) {
+            pstmt.setInt(12, candidate.getExperienceSince());
+        } else {
+            pstmt.setNull(12, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Helper method to set the minhash and duplicate_of parameters (9 and 10) of a candidate insert.
+     */
+    private void setNearDuplicateColumns(PreparedStatement pstmt, Candidate candidate) throws SQLException {
+        pstmt.setBytes(9, candidate.getMinHash() != null ? toBlob(candidate.getMinHash()) : null);
+        if (candidate.isNearDuplicate()) {
+            pstmt.setInt(10, candidate.getDuplicateOf());
+        } else {
+            pstmt.setNull(10, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Helper method to store an int array as a big-endian BLOB.
+     */
+    private static byte[] toBlob(int[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buffer.asIntBuffer().put(values);
+        return buffer.array();
+    }
+
+    /**
+     * Helper method to read an int array stored with toBlob.
+     */
+    private static int[] fromBlob(byte[] blob) {
+        int[] values = new int[blob.length / Integer.BYTES];
+        ByteBuffer.wrap(blob).asIntBuffer().get(values);
+        return values;
+    }
+
     /**
      * Helper method to parse comma-separated strings into a list.
      */
@@ -326,7 +950,7 @@ public class DatabaseManager {
      * Returns the current database connection.
      * Mainly for testing purposes.
      */
-    public Connection getConnection() {
+    public synchronized Connection getConnection() {
         return connection;
     }
 }
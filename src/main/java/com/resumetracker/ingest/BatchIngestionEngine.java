@@ -0,0 +1,346 @@
+package com.resumetracker.ingest;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.parser.ResumeParser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses and stores large batches of resume files in parallel.
+ *
+ * Files are parsed by a fixed pool of worker threads fed from a bounded queue, so at most
+ * (workers + queueCapacity) files are in flight at any time regardless of batch size.
+ * Parsed candidates are written to the database from the calling thread in transactional
+ * batches, which keeps all JDBC access on a single thread.
+ *
+ * Each file is hashed before parsing. Files whose content is already stored (from an earlier
+ * upload or earlier in the same batch) skip parsing and resolve to the existing candidate.
+ *
+ * Parsed resumes also get a MinHash signature of their text, which is looked up in an LSH index
+ * of the stored resumes. A resume at least as similar as the near-duplicate threshold (estimated
+ * Jaccard similarity of word shingles) to a stored or earlier resume, e.g. the same person's
+ * resume with a few edits, is stored linked to the original (duplicate_of) and left out of
+ * matching. Signatures are computed on the worker threads, so the lookup is all that is left on
+ * the writing thread.
+ */
+public class BatchIngestionEngine {
+    private static final int DEFAULT_INSERT_BATCH_SIZE = 200;
+    public static final double DEFAULT_NEAR_DUPLICATE_THRESHOLD = 0.8;
+
+    private final DatabaseManager dbManager;
+    private final ResumeParser parser;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final int insertBatchSize;
+    private double nearDuplicateThreshold = DEFAULT_NEAR_DUPLICATE_THRESHOLD;
+
+    /**
+     * Creates an engine with one worker per available processor.
+     * @param parser The parser shared by all worker threads
+     * @param dbManager The database to store parsed candidates in
+     */
+    public BatchIngestionEngine(ResumeParser parser, DatabaseManager dbManager) {
+        this(parser, dbManager, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine with the given number of workers and a queue of four files per worker.
+     */
+    public BatchIngestionEngine(ResumeParser parser, DatabaseManager dbManager, int workerCount) {
+        this(parser, dbManager, workerCount, workerCount * 4, DEFAULT_INSERT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor with all settings.
+     * @param parser The parser shared by all worker threads (ResumeParser is thread-safe)
+     * @param dbManager The database to store parsed candidates in
+     * @param workerCount Number of parsing threads
+     * @param queueCapacity Number of files that may wait for a free worker
+     * @param insertBatchSize Number of candidates written per database transaction
+     */
+    public BatchIngestionEngine(ResumeParser parser, DatabaseManager dbManager,
+                                int workerCount, int queueCapacity, int insertBatchSize) {
+        if (workerCount < 1 || queueCapacity < 1 || insertBatchSize < 1) {
+            throw new IllegalArgumentException("Worker count, queue capacity and batch size must be positive");
+        }
+        this.parser = parser;
+        this.dbManager = dbManager;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    /**
+     * Sets how similar two resumes must be to count as near-duplicates.
+     * @param threshold Minimum estimated Jaccard similarity, from above 0.0 to 1.0; 0.0 disables
+     *                  near-duplicate detection. Below about 0.5 some near-duplicates are missed.
+     */
+    public void setNearDuplicateThreshold(double threshold) {
+        if (threshold < 0.0 || threshold > 1.0) {
+            throw new IllegalArgumentException("Near-duplicate threshold must be between 0 and 1: " + threshold);
+        }
+        this.nearDuplicateThreshold = threshold;
+    }
+
+    public double getNearDuplicateThreshold() {
+        return nearDuplicateThreshold;
+    }
+
+    /**
+     * Parses all files concurrently and stores the resulting candidates.
+     * Blocks until every file has been processed.
+     *
+     * @param files The resume files to ingest
+     * @param listener Optional progress listener (may be null)
+     * @return One result per file, in completion order
+     */
+    public List<IngestionResult> ingest(List<File> files, IngestionListener listener) {
+        List<IngestionResult> results = new ArrayList<>(files.size());
+        if (files.isEmpty()) {
+            return results;
+        }
+
+        // Read by workers to skip parsing, written by this thread as new candidates are stored
+        Map<String, Integer> knownHashes = new ConcurrentHashMap<>(dbManager.getContentHashIndex());
+
+        // Only used by this thread; null when near-duplicate detection is off
+        NearDuplicateIndex<Integer> storedResumes = null;
+        if (nearDuplicateThreshold > 0.0) {
+            storedResumes = new NearDuplicateIndex<>(nearDuplicateThreshold);
+            for (Map.Entry<Integer, int[]> entry : dbManager.getMinHashSignatures().entrySet()) {
+                storedResumes.add(entry.getValue(), entry.getKey());
+            }
+        }
+
+        // The in-flight counter below is what bounds the pipeline. The executor queue is sized to
+        // the whole limit because a worker publishes its result slightly before it is free to take
+        // the next task, so a queue of only queueCapacity could briefly reject a submission.
+        int maxInFlight = workerCount + queueCapacity;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxInFlight), new WorkerThreadFactory());
+        CompletionService<IngestionResult> completionService = new ExecutorCompletionService<>(executor);
+
+        int submitted = 0;
+        int inFlight = 0;
+        List<IngestionResult> pending = new ArrayList<>(insertBatchSize);
+
+        try {
+            while (submitted < files.size() || inFlight > 0) {
+                // Keep the pipeline full, but never beyond what the bounded queue can hold
+                while (submitted < files.size() && inFlight < maxInFlight) {
+                    File file = files.get(submitted++);
+                    completionService.submit(() -> parseOne(file, knownHashes));
+                    inFlight++;
+                }
+
+                pending.add(takeResult(completionService));
+                inFlight--;
+
+                if (pending.size() >= insertBatchSize || inFlight == 0) {
+                    flush(pending, results, knownHashes, storedResumes, files.size(), listener);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch ingestion interrupted after " + results.size() + " files.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        flush(pending, results, knownHashes, storedResumes, files.size(), listener);
+        System.out.println("Batch ingestion finished: " + results.size() + " of " + files.size() + " files processed.");
+        return results;
+    }
+
+    /**
+     * Hashes and, unless its content is already stored, parses a single file on a worker thread.
+     * Never throws; failures become error results.
+     */
+    private IngestionResult parseOne(File file, Map<String, Integer> knownHashes) {
+        try {
+            String contentHash = ContentHasher.sha256(file);
+            if (knownHashes.containsKey(contentHash)) {
+                return new IngestionResult(file, contentHash, null);
+            }
+            Candidate candidate = parser.parseFile(file);
+            candidate.setContentHash(contentHash);
+            if (nearDuplicateThreshold > 0.0) {
+                candidate.setMinHash(MinHasher.signature(candidate.getResumeText()));
+            }
+            return new IngestionResult(file, contentHash, candidate);
+        } catch (Exception e) {
+            System.err.println("Error parsing file " + file.getName() + ": " + e.getMessage());
+            return new IngestionResult(file, e);
+        }
+    }
+
+    /**
+     * Waits for the next finished parse task.
+     */
+    private IngestionResult takeResult(CompletionService<IngestionResult> completionService)
+            throws InterruptedException {
+        Future<IngestionResult> future = completionService.take();
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // parseOne catches everything, so this only happens on Errors
+            throw new IllegalStateException("Resume parsing worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Writes pending parsed candidates to the database, resolves duplicates to their stored
+     * candidates, links near-duplicates to their originals, and reports each file to the listener.
+     */
+    private void flush(List<IngestionResult> pending, List<IngestionResult> results,
+                       Map<String, Integer> knownHashes, NearDuplicateIndex<Integer> storedResumes,
+                       int total, IngestionListener listener) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Candidate> toInsert = new ArrayList<>(pending.size());
+        Map<String, Candidate> insertedByHash = new HashMap<>();
+        List<IngestionResult> sameBatchCopies = new ArrayList<>();
+        for (IngestionResult result : pending) {
+            if (result.getError() != null) {
+                continue;
+            }
+            String contentHash = result.getContentHash();
+            Integer existingId = knownHashes.get(contentHash);
+
+            if (existingId != null) {
+                // Stored by an earlier upload or an earlier flush of this batch
+                result.markDuplicate(existingId);
+            } else if (insertedByHash.containsKey(contentHash)) {
+                // Two copies of the same file finished in this flush; resolved once the first is inserted
+                sameBatchCopies.add(result);
+            } else {
+                insertedByHash.put(contentHash, result.getCandidate());
+                toInsert.add(result.getCandidate());
+            }
+        }
+        if (!toInsert.isEmpty()) {
+            insertLinkingNearDuplicates(toInsert, storedResumes);
+            for (Candidate candidate : toInsert) {
+                if (candidate.getId() > 0) {
+                    knownHashes.put(candidate.getContentHash(), candidate.getId());
+                }
+            }
+        }
+
+        for (IngestionResult copy : sameBatchCopies) {
+            int originalId = insertedByHash.get(copy.getContentHash()).getId();
+            if (originalId > 0) {
+                copy.markDuplicate(originalId);
+            }
+        }
+        for (IngestionResult result : pending) {
+            if (result.getError() != null || result.isDuplicate()) {
+                continue;
+            }
+            if (result.getCandidate().getId() <= 0) {
+                // Skipped by the insert because another ingestion stored the same content meanwhile
+                Candidate existing = dbManager.getCandidateByContentHash(result.getContentHash());
+                if (existing != null) {
+                    knownHashes.put(result.getContentHash(), existing.getId());
+                    result.markDuplicate(existing.getId());
+                }
+            }
+        }
+
+        for (IngestionResult result : pending) {
+            results.add(result);
+            if (listener != null) {
+                listener.onFileProcessed(result, results.size(), total);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Inserts new candidates, first linking each near-duplicate to the stored or earlier candidate
+     * it copies. Originals in this batch are inserted first so that their copies can point at their IDs.
+     */
+    private void insertLinkingNearDuplicates(List<Candidate> candidates, NearDuplicateIndex<Integer> storedResumes) {
+        if (storedResumes == null) {
+            dbManager.insertCandidates(candidates);
+            return;
+        }
+
+        List<Candidate> firstPass = new ArrayList<>(candidates.size());
+        Map<Candidate, Candidate> originalsInBatch = new LinkedHashMap<>();
+        NearDuplicateIndex<Candidate> batchResumes = new NearDuplicateIndex<>(nearDuplicateThreshold);
+
+        for (Candidate candidate : candidates) {
+            int[] signature = candidate.getMinHash();
+            if (signature == null) {
+                firstPass.add(candidate);
+                continue;
+            }
+
+            Integer storedId = storedResumes.findDuplicate(signature);
+            Candidate batchOriginal = storedId == null ? batchResumes.findDuplicate(signature) : null;
+            if (storedId != null) {
+                candidate.setDuplicateOf(storedId);
+                firstPass.add(candidate);
+            } else if (batchOriginal != null) {
+                originalsInBatch.put(candidate, batchOriginal);
+            } else {
+                batchResumes.add(signature, candidate);
+                firstPass.add(candidate);
+            }
+        }
+
+        dbManager.insertCandidates(firstPass);
+
+        if (!originalsInBatch.isEmpty()) {
+            List<Candidate> secondPass = new ArrayList<>(originalsInBatch.keySet());
+            for (Candidate candidate : secondPass) {
+                // If the original failed to insert, store the copy as an original instead
+                candidate.setDuplicateOf(originalsInBatch.get(candidate).getId());
+            }
+            dbManager.insertCandidates(secondPass);
+        }
+
+        for (Candidate candidate : candidates) {
+            if (candidate.getId() <= 0) {
+                continue;
+            }
+            if (!candidate.isNearDuplicate() && candidate.getMinHash() != null) {
+                storedResumes.add(candidate.getMinHash(), candidate.getId());
+            }
+        }
+    }
+
+    /**
+     * Names worker threads and marks them as daemons so a stuck parse cannot keep the JVM alive.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "resume-ingest-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
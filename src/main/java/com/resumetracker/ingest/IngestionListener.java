@@ -0,0 +1,17 @@
+package com.resumetracker.ingest;
+
+/**
+ * Receives progress notifications from the BatchIngestionEngine.
+ * Callbacks are made on the thread that called ingest(), one per file, in completion order.
+ */
+public interface IngestionListener {
+
+    /**
+     * Called after a file has been parsed and (if successful) saved to the database.
+     *
+     * @param result The outcome for the file
+     * @param completed Number of files finished so far, including this one
+     * @param total Total number of files in the batch
+     */
+    void onFileProcessed(IngestionResult result, int completed, int total);
+}
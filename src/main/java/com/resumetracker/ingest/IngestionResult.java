@@ -0,0 +1,113 @@
+package com.resumetracker.ingest;
+
+import com.resumetracker.model.Candidate;
+
+import java.io.File;
+
+/**
+ * Represents the outcome of ingesting a single resume file.
+ * Holds either the saved candidate or the error that caused the file to fail.
+ */
+public class IngestionResult {
+    private final File file;
+    private final String contentHash;
+    private final Exception error;
+    private Candidate candidate;
+    private boolean duplicate;
+    private int existingId;
+
+    /**
+     * Constructor for a file whose content was read successfully.
+     * @param candidate The parsed candidate, or null if parsing was skipped because the content is already stored
+     */
+    public IngestionResult(File file, String contentHash, Candidate candidate) {
+        this.file = file;
+        this.contentHash = contentHash;
+        this.candidate = candidate;
+        this.error = null;
+    }
+
+    /**
+     * Constructor for a file that failed to parse or save.
+     */
+    public IngestionResult(File file, Exception error) {
+        this.file = file;
+        this.contentHash = null;
+        this.candidate = null;
+        this.error = error;
+    }
+
+    // Getters
+    public File getFile() {
+        return file;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Returns the parsed and stored candidate, or null if the file failed or is a duplicate.
+     */
+    public Candidate getCandidate() {
+        return candidate;
+    }
+
+    /**
+     * Returns the ID of the file's stored candidate (the existing one for a duplicate),
+     * or 0 if nothing was stored.
+     */
+    public int getCandidateId() {
+        if (duplicate) {
+            return existingId;
+        }
+        return candidate != null ? candidate.getId() : 0;
+    }
+
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Returns true if the file's content was already stored, so the existing candidate
+     * was returned instead of parsing and inserting it again.
+     */
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    /**
+     * Returns true if the file was stored as a near-duplicate (an edited copy) of another
+     * candidate's resume. It is linked to that candidate and left out of matching.
+     */
+    public boolean isNearDuplicate() {
+        return !duplicate && candidate != null && candidate.isNearDuplicate();
+    }
+
+    /**
+     * Marks this file as a copy of an already stored candidate.
+     * @param existingId The stored candidate's ID
+     */
+    void markDuplicate(int existingId) {
+        this.candidate = null;
+        this.existingId = existingId;
+        this.duplicate = true;
+    }
+
+    /**
+     * Returns true if the file's candidate is stored in the database, either newly or from an earlier upload.
+     */
+    public boolean isSuccess() {
+        return error == null && getCandidateId() > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionResult{" +
+                "file=" + file.getName() +
+                ", success=" + isSuccess() +
+                ", duplicate=" + duplicate +
+                (error != null ? ", error='" + error.getMessage() + '\'' : "") +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package com.resumetracker.ingest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Computes MinHash signatures of resume text for near-duplicate detection.
+ *
+ * The text is reduced to its set of word 3-shingles (three consecutive lowercase words). For each
+ * of 64 hash functions the signature keeps the minimum hash over all shingles; the fraction of
+ * positions where two signatures agree estimates the Jaccard similarity of the two shingle sets.
+ * An edited copy of a resume shares most of its shingles with the original, so it scores close
+ * to 1.0, while two different resumes score close to 0.0.
+ *
+ * Signatures are only comparable if they were computed with the same hash functions, so the
+ * seed is fixed. Thread-safe.
+ */
+public final class MinHasher {
+    public static final int SIGNATURE_LENGTH = 64;
+    private static final int SHINGLE_WORDS = 3;
+    private static final long SEED = 0x5DEECE66DL;
+
+    // Hash function i maps a shingle hash x to the high 32 bits of MULTIPLIERS[i] * x + ADDENDS[i]
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] ADDENDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            ADDENDS[i] = random.nextLong();
+        }
+    }
+
+    private MinHasher() {
+    }
+
+    /**
+     * Computes the MinHash signature of a text.
+     * @param text The resume text
+     * @return The signature, or null if the text contains no words
+     */
+    public static int[] signature(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        long[] words = wordHashes(text);
+        if (words.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        // Texts shorter than a shingle are treated as one shingle
+        int shingles = Math.max(1, words.length - SHINGLE_WORDS + 1);
+        for (int s = 0; s < shingles; s++) {
+            long shingle = 0L;
+            for (int w = s; w < Math.min(words.length, s + SHINGLE_WORDS); w++) {
+                shingle = mix(shingle * 31 + words[w]);
+            }
+
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) ((MULTIPLIERS[i] * shingle + ADDENDS[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the texts two signatures were computed from.
+     * @return The fraction of signature positions that agree, from 0.0 to 1.0
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    /**
+     * Hashes each word (run of letters and digits, lowercased) of the text, in order.
+     */
+    private static long[] wordHashes(String text) {
+        long[] hashes = new long[64];
+        int count = 0;
+        long hash = 0L;
+        int length = 0;
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                hash = hash * 31 + Character.toLowerCase(c);
+                length++;
+            } else if (length > 0) {
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                hashes[count++] = mix(hash);
+                hash = 0L;
+                length = 0;
+            }
+        }
+        return Arrays.copyOf(hashes, count);
+    }
+
+    /**
+     * Spreads the bits of a hash (the MurmurHash3 finalizer).
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
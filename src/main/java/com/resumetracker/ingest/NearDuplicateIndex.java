@@ -0,0 +1,98 @@
+package com.resumetracker.ingest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing index over MinHash signatures.
+ *
+ * Each signature is cut into 16 bands of 4 values and filed under the hash of each band. Two
+ * signatures are only compared if at least one band is identical, which is very likely for
+ * resumes above about 50% similarity and unlikely below, so a lookup compares a new resume with
+ * a handful of likely duplicates instead of every stored resume. Candidates are then confirmed
+ * against the Jaccard threshold using their full signatures.
+ *
+ * Not thread-safe: BatchIngestionEngine only uses it from the thread that writes to the database.
+ *
+ * @param <T> The value stored with each signature, e.g. a candidate ID
+ */
+final class NearDuplicateIndex<T> {
+    private static final int BANDS = 16;
+    private static final int ROWS = MinHasher.SIGNATURE_LENGTH / BANDS;
+
+    private final double threshold;
+    private final List<int[]> signatures = new ArrayList<>();
+    private final List<T> values = new ArrayList<>();
+    // One map per band: band hash -> positions of the signatures with that band
+    private final List<Map<Long, List<Integer>>> buckets = new ArrayList<>(BANDS);
+
+    /**
+     * Creates an empty index.
+     * @param threshold Minimum estimated Jaccard similarity for two resumes to be near-duplicates
+     */
+    NearDuplicateIndex(double threshold) {
+        this.threshold = threshold;
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds a signature to the index.
+     */
+    void add(int[] signature, T value) {
+        int position = signatures.size();
+        signatures.add(signature);
+        values.add(value);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandHash(signature, band), key -> new ArrayList<>(1)).add(position);
+        }
+    }
+
+    /**
+     * Returns the value of the most similar indexed signature at or above the threshold,
+     * the earliest added on ties, or null if there is none.
+     */
+    T findDuplicate(int[] signature) {
+        Set<Integer> compared = new HashSet<>();
+        int best = -1;
+        double bestSimilarity = threshold;
+
+        for (int band = 0; band < BANDS; band++) {
+            List<Integer> positions = buckets.get(band).get(bandHash(signature, band));
+            if (positions == null) {
+                continue;
+            }
+            for (int position : positions) {
+                if (!compared.add(position)) {
+                    continue;
+                }
+                double similarity = MinHasher.similarity(signature, signatures.get(position));
+                if (similarity > bestSimilarity || (similarity == bestSimilarity && (best < 0 || position < best))) {
+                    best = position;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best >= 0 ? values.get(best) : null;
+    }
+
+    /**
+     * Returns the number of indexed signatures.
+     */
+    int size() {
+        return signatures.size();
+    }
+
+    private static long bandHash(int[] signature, int band) {
+        long hash = 0L;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return hash;
+    }
+}
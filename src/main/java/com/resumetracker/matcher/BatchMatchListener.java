@@ -0,0 +1,24 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+
+import java.util.List;
+
+/**
+ * Receives results from JobMatcher.matchJobs as each job finishes.
+ * Callbacks are made on the thread that called matchJobs, one per job, in job order.
+ */
+public interface BatchMatchListener {
+
+    /**
+     * Called once a job's best matches have been selected.
+     *
+     * @param job The job description
+     * @param results The job's best matches, highest score first; read-only, and may build
+     *                each result when it is read, so keep the results needed rather than the list
+     * @param completed Number of jobs finished so far, including this one
+     * @param total Total number of jobs in the batch
+     */
+    void onJobMatched(JobDescription job, List<MatchResult> results, int completed, int total);
+}
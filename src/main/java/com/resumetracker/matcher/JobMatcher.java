@@ -4,225 +4,441 @@ import com.resumetracker.model.Candidate;
 import com.resumetracker.model.JobDescription;
 import com.resumetracker.model.MatchResult;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
 
 /**
  * Implements the matching algorithm to compare candidates against job descriptions.
  * Calculates a match score based on skill matching and experience.
+ *
+ * Scoring keeps no per-query state in the matcher, so one instance can be shared by threads.
+ * A matcher created with a ForkJoinPool scores large candidate lists in parallel in findTopMatches.
+ * A matcher created with a ResumeTextIndex also scores how relevant each candidate's full resume
+ * text is to the required skills (BM25), so skills mentioned only outside the skills section count.
  */
 public class JobMatcher {
     // Weights for scoring components
     private static final double SKILL_WEIGHT = 0.70;  // 70% weight for skills
     private static final double EXPERIENCE_WEIGHT = 0.30;  // 30% weight for experience
+    // Default share of the score given to resume text relevance when a text index is used;
+    // skills and experience split the rest in the proportions above
+    public static final double DEFAULT_TEXT_WEIGHT = 0.20;
+
+    // Below this many candidates a partition is scored sequentially rather than split further
+    private static final int PARALLEL_CUTOFF = 4096;
+
+    // Jobs scored together in one pass over the candidates by matchJobs
+    private static final int JOBS_PER_PASS = 16;
+
+    // Returned instead of a score for candidates that cannot make a job's top k
+    private static final double PRUNED = -1.0;
+
+    // Best match first: highest score, then earliest in the input
+    private static final Comparator<ScoredCandidate> BEST_FIRST =
+        Comparator.comparingDouble((ScoredCandidate scored) -> scored.score).reversed()
+            .thenComparingInt(scored -> scored.order);
+
+    private final SkillDictionary dictionary = SkillDictionary.getInstance();
+    private final ForkJoinPool pool;
+    private final ResumeTextIndex textIndex;
+    private final double textWeight;
+    // Shared by all results, which only build their details text when it is read
+    private final Function<MatchResult, String> detailsFormatter = this::generateMatchDetails;
+
+    /**
+     * Creates a matcher that scores candidates sequentially on the calling thread.
+     */
+    public JobMatcher() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a matcher that splits findTopMatches over a fork-join pool when there are more
+     * candidates than the sequential cutoff. Results are identical to the sequential mode.
+     * @param pool The pool to score on, e.g. ForkJoinPool.commonPool(); null for sequential scoring
+     */
+    public JobMatcher(ForkJoinPool pool) {
+        this(pool, null);
+    }
+
+    /**
+     * Creates a matcher that adds resume text relevance from the given index to the score,
+     * weighted at 20%, with skills and experience scaled to the remaining 80%.
+     * @param pool The pool to score on, or null for sequential scoring
+     * @param textIndex The full-text index of resumes, or null to score skills and experience only
+     */
+    public JobMatcher(ForkJoinPool pool, ResumeTextIndex textIndex) {
+        this(pool, textIndex, DEFAULT_TEXT_WEIGHT);
+    }
+
+    /**
+     * Creates a matcher that adds resume text relevance from the given index to the score with
+     * the given weight, with skills and experience scaled to the rest.
+     * @param pool The pool to score on, or null for sequential scoring
+     * @param textIndex The full-text index of resumes, or null to score skills and experience only
+     * @param textWeight Share of the score given to resume text, between 0 and 1 (exclusive)
+     */
+    public JobMatcher(ForkJoinPool pool, ResumeTextIndex textIndex, double textWeight) {
+        if (!(textWeight > 0.0 && textWeight < 1.0)) {
+            throw new IllegalArgumentException("Text weight must be between 0 and 1: " + textWeight);
+        }
+        this.pool = pool;
+        this.textIndex = textIndex;
+        this.textWeight = textWeight;
+    }
 
     /**
      * Matches a candidate against a job description and returns a MatchResult.
      * 
      * Scoring Algorithm:
      * - Skills Matching (70%): Percentage of required skills that the candidate possesses
-     * - Experience (30%): Based on presence of work experience
+     * - Experience (30%): Total years of experience relative to the required years
+     * - Resume text (20% by default, only with a ResumeTextIndex): BM25 relevance of the whole
+     *   resume to the required skills; skills and experience then make up 56% and 24%
      * 
      * @param candidate The candidate to evaluate
      * @param job The job description to match against
      * @return A MatchResult object containing the score and details
      */
     public MatchResult match(Candidate candidate, JobDescription job) {
-        // Initialize lists for matched and missing skills
-        List<String> matchedSkills = new ArrayList<>();
-        List<String> missingSkills = new ArrayList<>();
+        return match(candidate, compileJob(job));
+    }
+
+    /**
+     * Builds match results for candidates whose scores are already known, e.g. read back from a
+     * stored leaderboard, without ranking or rescoring them. Only the matched and missing skills
+     * and the skill and experience components are worked out, which are cheap; the resume text
+     * component is taken as the rest of the stored score instead of scoring every resume again.
+     *
+     * @param candidates The candidates, in the order the results should have
+     * @param scores The stored match score of each candidate
+     * @param job The job the scores are for
+     * @return One result per candidate, in the same order
+     */
+    public List<MatchResult> withStoredScores(List<Candidate> candidates, double[] scores, JobDescription job) {
+        if (scores.length != candidates.size()) {
+            throw new IllegalArgumentException("Expected one score per candidate");
+        }
+
+        List<String> skills = job.getRequiredSkills() != null ? job.getRequiredSkills() : Collections.emptyList();
+        CompiledJob compiled = new CompiledJob(job, new RequiredSkills(skills, dictionary), null, null);
+        List<MatchResult> results = new ArrayList<>(candidates.size());
+
+        for (int i = 0; i < scores.length; i++) {
+            Candidate candidate = candidates.get(i);
+            long[] matchedMask = compiled.requiredSkills.matchMask(dictionary.encode(candidate));
+            int matchCount = 0;
+            for (long word : matchedMask) {
+                matchCount += Long.bitCount(word);
+            }
+            double skillScore = calculateSkillScore(compiled, matchedMask, 0, matchCount);
+            double experienceScore = calculateExperienceScore(candidate, compiled);
+            double textScore = 0.0;
+            if (textIndex != null) {
+                double rest = (scores[i] - combineScores(skillScore, experienceScore, 0.0)) / textWeight;
+                textScore = Math.max(0.0, Math.min(100.0, rest));
+            }
+
+            results.add(new MatchResult(candidate, job, scores[i], compiled.requiredSkills.getSkills(),
+                matchedMask, skillScore, experienceScore, textScore, detailsFormatter));
+        }
+        return results;
+    }
+
+    /**
+     * Matches a candidate against a job that has already been compiled,
+     * so matching many candidates compiles the job only once.
+     */
+    private MatchResult match(Candidate candidate, CompiledJob compiled) {
+        // Find which required skills the candidate has (bit i = required skill i)
+        return buildResult(candidate, compiled, compiled.requiredSkills.matchMask(dictionary.encode(candidate)));
+    }
+
+    /**
+     * Builds the MatchResult of a candidate whose matched required skills are already known,
+     * e.g. from a row of a MatchTable.
+     */
+    private MatchResult buildResult(Candidate candidate, CompiledJob compiled, long[] matchedMask) {
+        JobDescription job = compiled.job;
+        RequiredSkills requiredSkills = compiled.requiredSkills;
 
         // Calculate skill match score
-        double skillScore = calculateSkillScore(candidate, job, matchedSkills, missingSkills);
+        int matchCount = 0;
+        for (long word : matchedMask) {
+            matchCount += Long.bitCount(word);
+        }
+        double skillScore = calculateSkillScore(compiled, matchedMask, 0, matchCount);
 
         // Calculate experience score
-        double experienceScore = calculateExperienceScore(candidate, job);
+        double experienceScore = calculateExperienceScore(candidate, compiled);
 
-        // Calculate final match score (weighted sum)
-        double finalScore = (skillScore * SKILL_WEIGHT) + (experienceScore * EXPERIENCE_WEIGHT);
+        // Calculate resume text score
+        double textScore = calculateTextScore(candidate, compiled);
 
-        // Create match details string
-        String matchDetails = generateMatchDetails(candidate, job, skillScore, experienceScore, finalScore);
+        // Calculate final match score (weighted sum)
+        double finalScore = combineScores(skillScore, experienceScore, textScore);
 
-        // Create and return the match result
+        // Create and return the match result; skill lists and details are built when read
         MatchResult result = new MatchResult(
             candidate,
             job,
             finalScore,
-            matchedSkills,
-            missingSkills,
-            matchDetails
+            requiredSkills.getSkills(),
+            matchedMask,
+            skillScore,
+            experienceScore,
+            textScore,
+            detailsFormatter
         );
 
         return result;
     }
 
     /**
-     * Calculates the skill matching score.
-     * Compares candidate skills against required job skills.
+     * Calculates the skill matching score from the number of required skills the candidate has.
+     * Matches are found with the candidate's skill dictionary IDs: the matched required skills
+     * are the OR of the precomputed masks of those IDs, so no strings are compared per candidate.
      * 
-     * @param candidate The candidate to evaluate
-     * @param job The job description
-     * @param matchedSkills List to populate with matched skills
-     * @param missingSkills List to populate with missing skills
+     * @param requiredSkills The job's compiled required skills
+     * @param matchCount Number of required skills the candidate has
      * @return Skill score from 0.0 to 100.0
      */
-    private double calculateSkillScore(Candidate candidate, JobDescription job,
-                                       List<String> matchedSkills, List<String> missingSkills) {
-        List<String> candidateSkills = candidate.getSkills();
-        List<String> requiredSkills = job.getRequiredSkills();
-
+    private double calculateSkillScore(RequiredSkills requiredSkills, int matchCount) {
         // If no skills are required, give full score
-        if (requiredSkills == null || requiredSkills.isEmpty()) {
+        if (requiredSkills.isEmpty()) {
             return 100.0;
         }
 
-        // If candidate has no skills, score is 0
-        if (candidateSkills == null || candidateSkills.isEmpty()) {
-            missingSkills.addAll(requiredSkills);
-            return 0.0;
+        // Calculate percentage of required skills matched
+        double skillMatchPercentage = (double) matchCount / requiredSkills.size();
+        return skillMatchPercentage * 100.0;
+    }
+
+    /**
+     * Calculates the skill matching score from a mask of the matched required skills:
+     * the share of required skills matched or, for a skill query, the boosted share.
+     *
+     * @param mask Holds the match mask at mask[offset, offset + words)
+     * @param matchCount Number of bits set in the mask
+     * @return Skill score from 0.0 to 100.0
+     */
+    private double calculateSkillScore(CompiledJob compiled, long[] mask, int offset, int matchCount) {
+        double[] boosts = compiled.boosts;
+        if (boosts == null) {
+            return calculateSkillScore(compiled.requiredSkills, matchCount);
         }
 
-        // Normalize skills to lowercase for case-insensitive comparison
-        List<String> normalizedCandidateSkills = normalizeLower(candidateSkills);
+        // Summed in skill order, like the total, so matching every skill scores exactly 100
+        double matchedBoost = 0.0;
+        for (int i = 0; i < boosts.length; i++) {
+            if ((mask[offset + (i >>> 6)] & (1L << i)) != 0) {
+                matchedBoost += boosts[i];
+            }
+        }
+        return 100.0 * matchedBoost / compiled.totalBoost;
+    }
 
-        int matchCount = 0;
-        for (String requiredSkill : requiredSkills) {
-            String normalizedRequired = requiredSkill.toLowerCase().trim();
-            
-            // Check if candidate has this skill (case-insensitive, partial match)
-            boolean hasSkill = normalizedCandidateSkills.stream()
-                .anyMatch(candidateSkill -> 
-                    candidateSkill.contains(normalizedRequired) || 
-                    normalizedRequired.contains(candidateSkill) ||
-                    areSimilarSkills(candidateSkill, normalizedRequired)
-                );
-
-            if (hasSkill) {
-                matchedSkills.add(requiredSkill);
-                matchCount++;
-            } else {
-                missingSkills.add(requiredSkill);
+    /**
+     * Calculates only the final match score, without building a MatchResult, if it can reach the
+     * threshold and beat the weakest match kept so far. Always equal to
+     * match(candidate, job).getMatchScore() when it does.
+     *
+     * The experience and text scores are lookups, so they are taken first: with them the best
+     * score the candidate could get is known before any skill is compared. A candidate that could
+     * not qualify even with every required skill is rejected at once; otherwise the number of
+     * matched skills it needs is worked out and skill counting stops as soon as it is out of reach.
+     * The score only grows with the number of matched skills, so no qualifying candidate is lost.
+     *
+     * @param threshold Minimum score (inclusive)
+     * @param weakestKept Score a candidate must exceed to displace a kept match,
+     *                    or negative infinity while fewer than k matches are kept
+     * @return The score, or PRUNED if it cannot qualify
+     */
+    private double calculateMatchScore(Candidate candidate, CompiledJob compiled,
+                                       double threshold, double weakestKept) {
+        RequiredSkills requiredSkills = compiled.requiredSkills;
+        double experienceScore = calculateExperienceScore(candidate, compiled);
+        double textScore = calculateTextScore(candidate, compiled);
+
+        // Upper bound: the score with every required skill matched
+        int required = requiredSkills.size();
+        if (!qualifies(requiredSkills, required, experienceScore, textScore, threshold, weakestKept)) {
+            return PRUNED;
+        }
+
+        if (compiled.boosts != null) {
+            // Boosted skills do not all count the same, so the number of matches bounds nothing
+            long[] mask = requiredSkills.matchMask(dictionary.encode(candidate));
+            int matchCount = 0;
+            for (long word : mask) {
+                matchCount += Long.bitCount(word);
             }
+            double score = combineScores(calculateSkillScore(compiled, mask, 0, matchCount), experienceScore, textScore);
+            return score >= threshold && score > weakestKept ? score : PRUNED;
         }
 
-        // Calculate percentage of required skills matched
-        double skillMatchPercentage = (double) matchCount / requiredSkills.size();
-        return skillMatchPercentage * 100.0;
+        int needed = minimumMatches(requiredSkills, experienceScore, textScore, threshold, weakestKept);
+        int matchCount = requiredSkills.countMatched(dictionary.encode(candidate), needed);
+        if (matchCount < 0) {
+            return PRUNED;
+        }
+        return combineScores(calculateSkillScore(requiredSkills, matchCount), experienceScore, textScore);
+    }
+
+    /**
+     * Returns the smallest number of matched skills with which the score would be kept, given that
+     * all required skills would be. Estimated by solving the weighted sum for the skill score, then
+     * corrected against qualifies so rounding cannot make it disagree with the real score.
+     */
+    private int minimumMatches(RequiredSkills requiredSkills, double experienceScore, double textScore,
+                               double threshold, double weakestKept) {
+        int required = requiredSkills.size();
+        double skillWeight = SKILL_WEIGHT * (textIndex != null ? 1.0 - textWeight : 1.0);
+        double rest = combineScores(0.0, experienceScore, textScore);
+        double target = Math.max(threshold, weakestKept);
+
+        int needed = (int) Math.ceil((target - rest) / skillWeight / 100.0 * required);
+        needed = Math.max(0, Math.min(required, needed));
+        while (needed > 0 && qualifies(requiredSkills, needed - 1, experienceScore, textScore, threshold, weakestKept)) {
+            needed--;
+        }
+        while (needed < required && !qualifies(requiredSkills, needed, experienceScore, textScore, threshold, weakestKept)) {
+            needed++;
+        }
+        return needed;
+    }
+
+    /**
+     * Checks whether the score with the given number of matched skills would be kept.
+     */
+    private boolean qualifies(RequiredSkills requiredSkills, int matchCount, double experienceScore,
+                              double textScore, double threshold, double weakestKept) {
+        double score = combineScores(calculateSkillScore(requiredSkills, matchCount), experienceScore, textScore);
+        return score >= threshold && score > weakestKept;
+    }
+
+    /**
+     * Combines the component scores into the final weighted score.
+     */
+    private double combineScores(double skillScore, double experienceScore, double textScore) {
+        double score = (skillScore * SKILL_WEIGHT) + (experienceScore * EXPERIENCE_WEIGHT);
+        if (textIndex == null) {
+            return score;
+        }
+        return score * (1.0 - textWeight) + textScore * textWeight;
     }
 
     /**
-     * Calculates the experience score based on work experience.
+     * Calculates the experience score from the candidate's total years of experience,
+     * computed once by the parser from the date ranges in their resume and counted up to the
+     * month the job was compiled in, so a range running to the present keeps counting.
+     * Candidates with fewer years than required get partial credit in proportion.
+     * If no date ranges were found, any work experience gets full credit.
      * 
      * @param candidate The candidate to evaluate
-     * @param job The job description
+     * @param compiled The compiled job
      * @return Experience score from 0.0 to 100.0
      */
-    private double calculateExperienceScore(Candidate candidate, JobDescription job) {
-        // Check if candidate has work experience
+    private double calculateExperienceScore(Candidate candidate, CompiledJob compiled) {
+        int requiredYears = compiled.job.getRequiredYearsOfExperience();
+        if (requiredYears <= 0) {
+            // No experience required, give full score
+            return 100.0;
+        }
+
+        double years = candidate.getExperienceYears(compiled.asOf);
+        if (years >= 0.0) {
+            return years >= requiredYears ? 100.0 : 100.0 * years / requiredYears;
+        }
+
+        // Years unknown: fall back to the presence of work experience
         boolean hasExperience = candidate.hasWorkExperience() && 
                                !candidate.getWorkExperience().isEmpty();
+        return hasExperience ? 100.0 : 0.0;
+    }
 
-        // Simple scoring: if job requires experience and candidate has it, give full score
-        // This can be enhanced to parse years of experience from text
-        if (job.getRequiredYearsOfExperience() > 0) {
-            if (hasExperience) {
-                // Could be enhanced to calculate actual years from experience text
-                // For now, we give full credit if any experience is present
-                return 100.0;
-            } else {
-                return 0.0;
-            }
-        } else {
-            // No experience required, give full score
-            return 100.0;
+    /**
+     * Calculates how relevant the candidate's full resume text is to the job's required skills.
+     *
+     * @return Text score from 0.0 to 100.0, or 0.0 if no text index is used or the resume is not indexed
+     */
+    private double calculateTextScore(Candidate candidate, CompiledJob compiled) {
+        float[] textScores = compiled.textScores;
+        int id = candidate.getId();
+        if (textScores == null || id < 0 || id >= textScores.length) {
+            return 0.0;
         }
+        return textScores[id];
     }
 
     /**
      * Generates detailed match information as a formatted string.
+     * Called by MatchResult the first time its details are read.
      */
-    private String generateMatchDetails(Candidate candidate, JobDescription job,
-                                       double skillScore, double experienceScore, double finalScore) {
+    private String generateMatchDetails(MatchResult result) {
         StringBuilder details = new StringBuilder();
+        double otherWeight = textIndex != null ? 1.0 - textWeight : 1.0;
         
-        details.append(String.format("Candidate: %s\n", candidate.getName()));
-        details.append(String.format("Job: %s\n", job.getJobTitle()));
-        details.append(String.format("Overall Match: %.1f%%\n\n", finalScore));
+        details.append(String.format("Candidate: %s\n", result.getCandidate().getName()));
+        details.append(String.format("Job: %s\n", result.getJobDescription().getJobTitle()));
+        details.append(String.format("Overall Match: %.1f%%\n\n", result.getMatchScore()));
         details.append(String.format("Skill Match: %.1f%% (Weight: %.0f%%)\n", 
-            skillScore, SKILL_WEIGHT * 100));
+            result.getSkillScore(), SKILL_WEIGHT * otherWeight * 100));
         details.append(String.format("Experience Match: %.1f%% (Weight: %.0f%%)\n", 
-            experienceScore, EXPERIENCE_WEIGHT * 100));
+            result.getExperienceScore(), EXPERIENCE_WEIGHT * otherWeight * 100));
+        if (textIndex != null) {
+            details.append(String.format("Resume Text Match: %.1f%% (Weight: %.0f%%)\n",
+                result.getTextScore(), textWeight * 100));
+        }
         
         return details.toString();
     }
 
     /**
-     * Normalizes a list of strings to lowercase and trims whitespace.
+     * Compiles a job for scoring: its required skills against the skill dictionary and,
+     * if a text index is used, every indexed resume's text score for those skills.
      */
-    private List<String> normalizeLower(List<String> strings) {
-        List<String> normalized = new ArrayList<>();
-        for (String str : strings) {
-            if (str != null) {
-                normalized.add(str.toLowerCase().trim());
-            }
+    private CompiledJob compileJob(JobDescription job) {
+        List<String> requiredSkills = job.getRequiredSkills();
+        if (requiredSkills == null) {
+            requiredSkills = Collections.emptyList();
         }
-        return normalized;
+        return new CompiledJob(job, new RequiredSkills(requiredSkills, dictionary),
+            textIndex != null ? textIndex.score(requiredSkills) : null, null);
     }
 
     /**
-     * Checks if two skills are similar based on common abbreviations or synonyms.
-     * This can be extended with more sophisticated similarity matching.
+     * Compiles a skill query for scoring: its must and should skills take the place of the
+     * required skills, weighted by their boosts. The job supplies the title and required years.
      */
-    private boolean areSimilarSkills(String skill1, String skill2) {
-        // Remove common separators and compare
-        String s1 = skill1.replaceAll("[.\\-_/\\s]", "").toLowerCase();
-        String s2 = skill2.replaceAll("[.\\-_/\\s]", "").toLowerCase();
-        
-        // Check for exact match after normalization
-        if (s1.equals(s2)) {
-            return true;
-        }
-        
-        // Check for common skill abbreviations and synonyms
-        return checkSkillSynonyms(s1, s2);
-    }
-
-    /**
-     * Checks for common skill synonyms and abbreviations.
-     * This method can be extended with a more comprehensive skill mapping.
-     */
-    private boolean checkSkillSynonyms(String skill1, String skill2) {
-        // Define common synonyms (can be extended with a configuration file)
-        String[][] synonymGroups = {
-            {"js", "javascript"},
-            {"ts", "typescript"},
-            {"py", "python"},
-            {"cpp", "c++"},
-            {"cs", "csharp", "c#"},
-            {"sql", "database", "databases"},
-            {"ml", "machinelearning"},
-            {"ai", "artificialintelligence"},
-            {"rest", "restful", "restapi"},
-            {"ui", "userinterface"},
-            {"ux", "userexperience"}
-        };
-
-        for (String[] group : synonymGroups) {
-            boolean has1 = false;
-            boolean has2 = false;
-            
-            for (String synonym : group) {
-                if (skill1.contains(synonym) || synonym.contains(skill1)) has1 = true;
-                if (skill2.contains(synonym) || synonym.contains(skill2)) has2 = true;
-            }
-            
-            if (has1 && has2) {
-                return true;
-            }
-        }
+    private CompiledJob compileQuery(SkillQuery query, JobDescription job) {
+        List<String> scoredSkills = query.getScoredSkills();
+        return new CompiledJob(job, new RequiredSkills(scoredSkills, dictionary),
+            textIndex != null ? textIndex.score(scoredSkills) : null, query.getScoredBoosts());
+    }
 
-        return false;
+    /**
+     * Checks whether a candidate skill satisfies a required skill: either contains the other
+     * (case-insensitive, partial match) or they are synonyms, i.e. have the same canonical key
+     * in the skill synonym table. Skills must already be lowercased and trimmed, and the keys
+     * resolved with SkillDictionary.canonicalize, so no synonym lookup happens here.
+     * Skill taxonomy implications are added on top of this by SkillDictionary.
+     */
+    static boolean skillMatches(String candidateSkill, String candidateKey,
+                                String requiredSkill, String requiredKey) {
+        return candidateSkill.contains(requiredSkill) ||
+               requiredSkill.contains(candidateSkill) ||
+               candidateKey.equals(requiredKey);
     }
 
     /**
@@ -234,22 +450,206 @@ public class JobMatcher {
      * @return List of MatchResult objects sorted by score
      */
     public List<MatchResult> matchMultipleCandidates(List<Candidate> candidates, JobDescription job) {
-        List<MatchResult> results = new ArrayList<>();
+        return matchMultipleCandidates(candidates, compileJob(job));
+    }
+
+    /**
+     * Matches candidates against a compiled job and returns every result, sorted by score.
+     */
+    private List<MatchResult> matchMultipleCandidates(List<Candidate> candidates, CompiledJob compiled) {
+        // Scored and ranked in primitive columns; every row is then built, since all are returned
+        CompiledJob[] jobs = { compiled };
+        MatchTable table = scoreCandidates(candidates, jobs, Double.NEGATIVE_INFINITY)[0];
+        List<MatchResult> results = table.getResults(0, table.size());
+
+        System.out.println("Matched " + candidates.size() + " candidates against job: " + compiled.job.getJobTitle());
+        return results;
+    }
+
+    /**
+     * Matches a job description against only the indexed candidates that share at least one
+     * required skill with it or, with a text index, whose resume text mentions one. Candidates
+     * with neither can score at most the experience weight, so they are skipped rather than
+     * scored. If the job lists no required skills every indexed candidate is scored.
+     *
+     * @param index The skill index to retrieve candidates from
+     * @param job The job description to match against
+     * @return List of MatchResult objects sorted by score
+     */
+    public List<MatchResult> matchMultipleCandidates(SkillIndex index, JobDescription job) {
+        CompiledJob compiled = compileJob(job);
+        return matchMultipleCandidates(retrieve(index, compiled), compiled);
+    }
+
+    /**
+     * Scores all candidates scoring at least the threshold into a MatchTable, ranked best first.
+     *
+     * Use this instead of matchMultipleCandidates when scanning a large pool for more results than
+     * fit comfortably in memory as objects: scores and matched skills are written into primitive
+     * columns and ranked with a primitive index sort, and MatchResults are only built for the
+     * rows that are read. Candidates that cannot reach the threshold even with every required
+     * skill are not skill-matched at all. Uses the fork-join pool, if any, for large lists.
+     *
+     * @param candidates List of candidates to evaluate
+     * @param job The job description to match against
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @return The ranked scores
+     */
+    public MatchTable scoreCandidates(List<Candidate> candidates, JobDescription job, double threshold) {
+        CompiledJob[] jobs = { compileJob(job) };
+        return scoreCandidates(candidates, jobs, threshold)[0];
+    }
 
+    /**
+     * Returns the k best matches scoring at least the threshold, best first.
+     *
+     * Equivalent to filterByThreshold(matchMultipleCandidates(candidates, job), threshold) cut to
+     * k results (ties keep the input order, as with the stable sort), but candidates are scored
+     * into a bounded min-heap instead of being collected and sorted. A MatchResult, with its skill
+     * lists and detail text, is only built for the k survivors, so memory is O(k) rather than O(N).
+     *
+     * Candidates are pruned by their best possible score: skill comparison stops as soon as a
+     * candidate cannot reach the threshold or beat the weakest of the k matches kept so far, so
+     * high thresholds and small k skip most of the skill matching.
+     *
+     * If k is at least the number of candidates there is nothing for a heap to cut, so the
+     * candidates are ranked in a MatchTable instead and the returned list is a read-only view of
+     * it that builds each MatchResult the first time it is read.
+     *
+     * @param candidates List of candidates to evaluate
+     * @param job The job description to match against
+     * @param k Maximum number of results to return
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @return Up to k MatchResult objects sorted by score
+     */
+    public List<MatchResult> findTopMatches(List<Candidate> candidates, JobDescription job, int k, double threshold) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        return findTopMatches(candidates, compileJob(job), k, threshold);
+    }
+
+    /**
+     * Returns the k best matches of a compiled job, from a heap or, if every candidate fits, a MatchTable.
+     */
+    private List<MatchResult> findTopMatches(List<Candidate> candidates, CompiledJob compiled, int k, double threshold) {
+        CompiledJob[] jobs = { compiled };
+        return k >= candidates.size()
+            ? scoreCandidates(candidates, jobs, threshold)[0].asList()
+            : toMatchResults(selectTopMatches(candidates, jobs, k, threshold)[0], compiled);
+    }
+
+    /**
+     * Returns the k best matches among the indexed candidates that share at least one required
+     * skill or, with a text index, whose resume text mentions one.
+     *
+     * @param index The skill index to retrieve candidates from
+     * @param job The job description to match against
+     * @param k Maximum number of results to return
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @return Up to k MatchResult objects sorted by score
+     */
+    public List<MatchResult> findTopMatches(SkillIndex index, JobDescription job, int k, double threshold) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        CompiledJob compiled = compileJob(job);
+        return findTopMatches(retrieve(index, compiled), compiled, k, threshold);
+    }
+
+    /**
+     * Retrieves the indexed candidates worth scoring for a compiled job: those with a skill
+     * satisfying a required skill and, if resume text is scored, those with a text score.
+     */
+    private List<Candidate> retrieve(SkillIndex index, CompiledJob compiled) {
+        return index.findCandidates(compiled.job.getRequiredSkills(), compiled.textScores);
+    }
+
+    /**
+     * Returns the k best matches for a skill query among the indexed candidates.
+     *
+     * The index narrows the pool with the query's must and must-not clauses (or, without must
+     * clauses, to candidates with a should skill), so the more must clauses a query has, the fewer
+     * candidates are scored. Survivors are then scored like a job whose required skills are the
+     * must and should skills, each weighted by its boost, with experience taken from the job.
+     *
+     * @param index The skill index to retrieve candidates from
+     * @param query The skill query
+     * @param job Supplies the title and required years of experience; its required skills are ignored
+     * @param k Maximum number of results to return
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @return Up to k MatchResult objects sorted by score, listing the query's must and should
+     *         skills as matched or missing
+     */
+    public List<MatchResult> findTopMatches(SkillIndex index, SkillQuery query, JobDescription job,
+                                            int k, double threshold) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        List<Candidate> candidates = index.findCandidates(query);
+        return findTopMatches(candidates, compileQuery(query, job), k, threshold);
+    }
+
+    /**
+     * Matches many jobs against the same candidates, e.g. rescoring every open requisition against
+     * the whole pool, and reports each job's k best matches to the listener as soon as it is done.
+     *
+     * Gives the same results as calling findTopMatches once per job, but does the shared work once:
+     * each candidate's skills are encoded a single time, and jobs are scored in groups of up to 16
+     * per pass over the candidate list, so each candidate is read once per group instead of once
+     * per job. Results of a group are delivered before the next group starts, so memory stays at
+     * O(k) per job in the current group. Uses the fork-join pool, if any, for large candidate lists.
+     * If k is at least the number of candidates, each job's results are ranked in a MatchTable and
+     * delivered as a read-only view that builds each MatchResult the first time it is read.
+     *
+     * @param jobs The job descriptions to match
+     * @param candidates The candidates to evaluate against every job
+     * @param k Maximum number of results per job
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @param listener Receives each job's results, in job order, on the calling thread
+     */
+    public void matchJobs(List<JobDescription> jobs, List<Candidate> candidates, int k, double threshold,
+                          BatchMatchListener listener) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        // Normalize and encode every candidate's skills once, up front, for all jobs
         for (Candidate candidate : candidates) {
-            MatchResult result = match(candidate, job);
-            results.add(result);
+            dictionary.encode(candidate);
         }
 
-        // Sort results by score (highest first) using the Comparable implementation
-        results.sort(MatchResult::compareTo);
+        int completed = 0;
+        for (int start = 0; start < jobs.size(); start += JOBS_PER_PASS) {
+            int end = Math.min(jobs.size(), start + JOBS_PER_PASS);
+            CompiledJob[] group = new CompiledJob[end - start];
+            for (int j = 0; j < group.length; j++) {
+                group[j] = compileJob(jobs.get(start + j));
+            }
 
-        System.out.println("Matched " + candidates.size() + " candidates against job: " + job.getJobTitle());
-        return results;
+            if (k >= candidates.size()) {
+                // Every candidate can be a result, so a heap would only add overhead; rank columns instead
+                MatchTable[] tables = scoreCandidates(candidates, group, threshold);
+                for (int j = 0; j < group.length; j++) {
+                    listener.onJobMatched(group[j].job, tables[j].asList(), ++completed, jobs.size());
+                }
+                continue;
+            }
+
+            ScoredCandidate[][] top = selectTopMatches(candidates, group, k, threshold);
+            for (int j = 0; j < group.length; j++) {
+                listener.onJobMatched(group[j].job, toMatchResults(top[j], group[j]), ++completed, jobs.size());
+            }
+        }
     }
 
     /**
      * Filters match results to return only candidates above a certain score threshold.
+     * The results must already be fully scored; findTopMatches applies the threshold while
+     * scoring and skips candidates that cannot reach it.
      * 
      * @param results List of match results
      * @param threshold Minimum score threshold (0.0 to 100.0)
@@ -267,4 +667,299 @@ public class JobMatcher {
         System.out.println("Filtered " + filtered.size() + " candidates above threshold: " + threshold + "%");
         return filtered;
     }
+
+    /**
+     * Selects each job's k best candidates, splitting the list over the fork-join pool when it
+     * is large enough and this matcher has one.
+     * @return For each job, its best candidates in best-first order
+     */
+    private ScoredCandidate[][] selectTopMatches(List<Candidate> candidates, CompiledJob[] jobs,
+                                                 int k, double threshold) {
+        if (pool == null || candidates.size() <= PARALLEL_CUTOFF) {
+            return selectTopMatches(candidates, 0, candidates.size(), jobs, k, threshold);
+        }
+
+        // Partitions index into the list, so it must support fast random access
+        List<Candidate> partitioned = candidates instanceof RandomAccess ? candidates : new ArrayList<>(candidates);
+        return pool.invoke(new TopMatchesTask(partitioned, 0, partitioned.size(), jobs, k, threshold));
+    }
+
+    /**
+     * Scores candidates[from, to) against each job into one bounded min-heap per job and returns
+     * each job's k best, best first. Each candidate is scored against all jobs while it is at hand.
+     * A candidate's order is its position in the full list, so partitions merge deterministically.
+     */
+    private ScoredCandidate[][] selectTopMatches(List<Candidate> candidates, int from, int to,
+                                                 CompiledJob[] jobs, int k, double threshold) {
+        // Head of each heap is the weakest kept match: lowest score, then latest in input order
+        List<PriorityQueue<ScoredCandidate>> heaps = new ArrayList<>(jobs.length);
+        for (int j = 0; j < jobs.length; j++) {
+            heaps.add(new PriorityQueue<>(Math.min(k, to - from) + 1, BEST_FIRST.reversed()));
+        }
+
+        int order = from;
+        for (Candidate candidate : candidates.subList(from, to)) {
+            order++;
+
+            for (int j = 0; j < jobs.length; j++) {
+                PriorityQueue<ScoredCandidate> heap = heaps.get(j);
+                // Once the heap is full a candidate must beat its weakest match to get in
+                double weakestKept = heap.size() < k ? Double.NEGATIVE_INFINITY : heap.peek().score;
+                double score = calculateMatchScore(candidate, jobs[j], threshold, weakestKept);
+                if (score == PRUNED) {
+                    continue;
+                }
+
+                if (heap.size() < k) {
+                    heap.add(new ScoredCandidate(candidate, score, order));
+                } else if (score > heap.peek().score) {
+                    // Equal scores never displace a kept match, since it came earlier in the input
+                    heap.poll();
+                    heap.add(new ScoredCandidate(candidate, score, order));
+                }
+            }
+        }
+
+        ScoredCandidate[][] top = new ScoredCandidate[jobs.length][];
+        for (int j = 0; j < jobs.length; j++) {
+            PriorityQueue<ScoredCandidate> heap = heaps.get(j);
+            top[j] = new ScoredCandidate[heap.size()];
+            for (int i = top[j].length - 1; i >= 0; i--) {
+                top[j][i] = heap.poll();
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Scores every candidate against each job into one MatchTable per job, splitting the list
+     * over the fork-join pool when it is large enough and this matcher has one. Each worker writes
+     * only its own range of rows, so the columns need no locking.
+     */
+    private MatchTable[] scoreCandidates(List<Candidate> candidates, CompiledJob[] jobs, double threshold) {
+        // Rows are addressed by position, so the list must support fast random access
+        List<Candidate> rows = candidates instanceof RandomAccess ? candidates : new ArrayList<>(candidates);
+        int size = rows.size();
+
+        int[] candidateIds = new int[size];
+        double[][] scores = new double[jobs.length][size];
+        long[][] masks = new long[jobs.length][];
+        for (int j = 0; j < jobs.length; j++) {
+            masks[j] = new long[size * jobs[j].requiredSkills.words()];
+        }
+
+        if (pool == null || size <= PARALLEL_CUTOFF) {
+            scoreRange(rows, 0, size, jobs, threshold, candidateIds, scores, masks);
+        } else {
+            pool.invoke(new ScoreTask(rows, 0, size, jobs, threshold, candidateIds, scores, masks));
+        }
+
+        MatchTable[] tables = new MatchTable[jobs.length];
+        for (int j = 0; j < jobs.length; j++) {
+            int[] ranked = new int[size];
+            int count = 0;
+            for (int position = 0; position < size; position++) {
+                if (scores[j][position] != PRUNED) {
+                    ranked[count++] = position;
+                }
+            }
+
+            CompiledJob compiled = jobs[j];
+            tables[j] = new MatchTable(compiled.job, rows, candidateIds, scores[j], masks[j],
+                compiled.requiredSkills.words(), Arrays.copyOf(ranked, count),
+                (candidate, mask) -> buildResult(candidate, compiled, mask));
+        }
+        return tables;
+    }
+
+    /**
+     * Scores candidates[from, to) against each job into the rows of the table columns.
+     * Rows that cannot reach the threshold get the score PRUNED.
+     */
+    private void scoreRange(List<Candidate> candidates, int from, int to, CompiledJob[] jobs, double threshold,
+                            int[] candidateIds, double[][] scores, long[][] masks) {
+        for (int position = from; position < to; position++) {
+            Candidate candidate = candidates.get(position);
+            candidateIds[position] = candidate.getId();
+
+            for (int j = 0; j < jobs.length; j++) {
+                RequiredSkills requiredSkills = jobs[j].requiredSkills;
+                double experienceScore = calculateExperienceScore(candidate, jobs[j]);
+                double textScore = calculateTextScore(candidate, jobs[j]);
+
+                // Skip skill matching if even every required skill would not reach the threshold
+                if (!qualifies(requiredSkills, requiredSkills.size(), experienceScore, textScore,
+                               threshold, Double.NEGATIVE_INFINITY)) {
+                    scores[j][position] = PRUNED;
+                    continue;
+                }
+
+                int offset = position * requiredSkills.words();
+                int matchCount = requiredSkills.matchMask(dictionary.encode(candidate), masks[j], offset);
+                double score = combineScores(calculateSkillScore(jobs[j], masks[j], offset, matchCount),
+                    experienceScore, textScore);
+                scores[j][position] = score >= threshold ? score : PRUNED;
+            }
+        }
+    }
+
+    /**
+     * Builds full MatchResults, with skill lists and details, for the selected candidates.
+     */
+    private List<MatchResult> toMatchResults(ScoredCandidate[] top, CompiledJob compiled) {
+        List<MatchResult> results = new ArrayList<>(top.length);
+        for (ScoredCandidate scored : top) {
+            results.add(match(scored.candidate, compiled));
+        }
+        return results;
+    }
+
+    /**
+     * Merges two best-first top-k lists into the k best of both, best first.
+     */
+    private static ScoredCandidate[] mergeTopMatches(ScoredCandidate[] left, ScoredCandidate[] right, int k) {
+        ScoredCandidate[] merged = new ScoredCandidate[Math.min(k, left.length + right.length)];
+        int l = 0;
+        int r = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (r >= right.length || (l < left.length && BEST_FIRST.compare(left[l], right[r]) <= 0)) {
+                merged[i] = left[l++];
+            } else {
+                merged[i] = right[r++];
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Fork-join task computing each job's top k over a range of the candidate list: ranges above
+     * the cutoff are split in half and the two halves' top-k lists merged job by job.
+     */
+    private final class TopMatchesTask extends RecursiveTask<ScoredCandidate[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Candidate> candidates;
+        private final int from;
+        private final int to;
+        private final CompiledJob[] jobs;
+        private final int k;
+        private final double threshold;
+
+        TopMatchesTask(List<Candidate> candidates, int from, int to, CompiledJob[] jobs,
+                       int k, double threshold) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.jobs = jobs;
+            this.k = k;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected ScoredCandidate[][] compute() {
+            if (to - from <= PARALLEL_CUTOFF) {
+                return selectTopMatches(candidates, from, to, jobs, k, threshold);
+            }
+
+            int middle = (from + to) >>> 1;
+            TopMatchesTask left = new TopMatchesTask(candidates, from, middle, jobs, k, threshold);
+            TopMatchesTask right = new TopMatchesTask(candidates, middle, to, jobs, k, threshold);
+            left.fork();
+            ScoredCandidate[][] rightTop = right.compute();
+            ScoredCandidate[][] leftTop = left.join();
+
+            ScoredCandidate[][] merged = new ScoredCandidate[jobs.length][];
+            for (int j = 0; j < jobs.length; j++) {
+                merged[j] = mergeTopMatches(leftTop[j], rightTop[j], k);
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Fork-join task scoring a range of the candidate list into table rows: ranges above the
+     * cutoff are split in half. The halves write disjoint rows, so nothing needs merging.
+     */
+    private final class ScoreTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Candidate> candidates;
+        private final int from;
+        private final int to;
+        private final CompiledJob[] jobs;
+        private final double threshold;
+        private final int[] candidateIds;
+        private final double[][] scores;
+        private final long[][] masks;
+
+        ScoreTask(List<Candidate> candidates, int from, int to, CompiledJob[] jobs, double threshold,
+                  int[] candidateIds, double[][] scores, long[][] masks) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.jobs = jobs;
+            this.threshold = threshold;
+            this.candidateIds = candidateIds;
+            this.scores = scores;
+            this.masks = masks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CUTOFF) {
+                scoreRange(candidates, from, to, jobs, threshold, candidateIds, scores, masks);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(candidates, from, middle, jobs, threshold, candidateIds, scores, masks),
+                      new ScoreTask(candidates, middle, to, jobs, threshold, candidateIds, scores, masks));
+        }
+    }
+
+    /**
+     * A job prepared for scoring many candidates: its compiled required skills and, if a text
+     * index is used, the text score of every indexed resume by candidate ID. Read-only once
+     * built, so it is shared by all threads scoring the job.
+     */
+    private static final class CompiledJob {
+        private final JobDescription job;
+        private final RequiredSkills requiredSkills;
+        private final float[] textScores;
+        // Boost of each required skill for a skill query; null if all count the same
+        private final double[] boosts;
+        private final double totalBoost;
+        // Month ongoing experience is counted up to, fixed so every candidate is scored alike
+        private final YearMonth asOf = YearMonth.now();
+
+        CompiledJob(JobDescription job, RequiredSkills requiredSkills, float[] textScores, double[] boosts) {
+            this.job = job;
+            this.requiredSkills = requiredSkills;
+            this.textScores = textScores;
+            this.boosts = boosts;
+
+            double total = 0.0;
+            if (boosts != null) {
+                for (double boost : boosts) {
+                    total += boost;
+                }
+            }
+            this.totalBoost = total;
+        }
+    }
+
+    /**
+     * A candidate and its score, held in the top-k heap until the final results are built.
+     */
+    private static final class ScoredCandidate {
+        private final Candidate candidate;
+        private final double score;
+        private final int order;
+
+        ScoredCandidate(Candidate candidate, double score, int order) {
+            this.candidate = candidate;
+            this.score = score;
+            this.order = order;
+        }
+    }
 }
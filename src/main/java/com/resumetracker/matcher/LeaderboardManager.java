@@ -0,0 +1,338 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.CandidateChangeListener;
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.LeaderboardEntry;
+import com.resumetracker.model.MatchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps a persistent leaderboard of the best candidates for every saved job description.
+ *
+ * Leaderboards are built once when a job is saved and then maintained incrementally: new
+ * candidates are scored only against the saved jobs and merged into their leaderboards, and
+ * deleted candidates are removed. Opening a job's ranking reads its leaderboard instead of
+ * rescoring the whole candidate pool.
+ *
+ * Each leaderboard keeps twice as many candidates as it shows, so deletes rarely empty it below
+ * the shown size. If that does happen to a leaderboard that has had to leave candidates out, it
+ * is rebuilt from all candidates the next time it is read.
+ *
+ * Candidate changes are applied on an update executor, a single background thread by default,
+ * in the order they happen. Scoring new candidates therefore never holds up the thread that
+ * inserted them, e.g. ingestion, and is done without holding this manager's lock, so reading
+ * a leaderboard does not wait for it either.
+ *
+ * Register with DatabaseManager.addCandidateListener after calling load(), and call close()
+ * when done. Thread-safe.
+ */
+public class LeaderboardManager implements CandidateChangeListener {
+    public static final int DEFAULT_SIZE = 50;
+
+    // Best entry first: highest score, then lowest candidate ID (the earliest inserted)
+    private static final Comparator<LeaderboardEntry> BEST_FIRST =
+        Comparator.comparingDouble(LeaderboardEntry::getMatchScore).reversed()
+            .thenComparingInt(LeaderboardEntry::getCandidateId);
+
+    private final DatabaseManager dbManager;
+    private final JobMatcher jobMatcher;
+    private final int size;
+    private final int capacity;
+    private final Executor updater;
+    // The default update thread, shut down by close(); null if the executor was supplied
+    private final ExecutorService ownUpdater;
+
+    private final Map<Integer, JobDescription> jobsById = new LinkedHashMap<>();
+    private final Map<Integer, Leaderboard> leaderboards = new HashMap<>();
+
+    /**
+     * Creates a manager showing the top 50 candidates per job.
+     */
+    public LeaderboardManager(DatabaseManager dbManager, JobMatcher jobMatcher) {
+        this(dbManager, jobMatcher, DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor with the leaderboard size. Candidate changes are applied on a background thread.
+     * @param dbManager The database the jobs and leaderboards are stored in
+     * @param jobMatcher The matcher used to score candidates
+     * @param size Number of candidates returned per leaderboard
+     */
+    public LeaderboardManager(DatabaseManager dbManager, JobMatcher jobMatcher, int size) {
+        this(dbManager, jobMatcher, size, null);
+    }
+
+    /**
+     * Constructor with all settings.
+     * @param dbManager The database the jobs and leaderboards are stored in
+     * @param jobMatcher The matcher used to score candidates
+     * @param size Number of candidates returned per leaderboard
+     * @param updater Runs candidate changes, which must be applied in order (e.g. a single thread,
+     *                or Runnable::run to apply them on the notifying thread); null for a
+     *                background thread owned by this manager
+     */
+    public LeaderboardManager(DatabaseManager dbManager, JobMatcher jobMatcher, int size, Executor updater) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Leaderboard size must be positive: " + size);
+        }
+        this.dbManager = dbManager;
+        this.jobMatcher = jobMatcher;
+        this.size = size;
+        this.capacity = size * 2;
+        if (updater != null) {
+            this.updater = updater;
+            this.ownUpdater = null;
+        } else {
+            this.ownUpdater = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "leaderboard-updater");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.updater = ownUpdater;
+        }
+    }
+
+    /**
+     * Loads the saved jobs and their stored leaderboards from the database.
+     */
+    public synchronized void load() {
+        jobsById.clear();
+        leaderboards.clear();
+
+        for (JobDescription job : dbManager.getAllJobDescriptions()) {
+            Leaderboard leaderboard = new Leaderboard();
+            for (LeaderboardEntry entry : dbManager.getLeaderboardEntries(job.getId())) {
+                leaderboard.add(entry);
+            }
+            leaderboard.truncated = dbManager.isLeaderboardTruncated(job.getId());
+
+            jobsById.put(job.getId(), job);
+            leaderboards.put(job.getId(), leaderboard);
+        }
+
+        System.out.println("Loaded leaderboards for " + jobsById.size() + " saved jobs.");
+    }
+
+    /**
+     * Returns the saved jobs in the order they were saved.
+     */
+    public synchronized List<JobDescription> getSavedJobs() {
+        return new ArrayList<>(jobsById.values());
+    }
+
+    /**
+     * Saves a job description and builds its leaderboard from all current candidates.
+     * @param job The job description to save
+     * @return true if the job was saved
+     */
+    public synchronized boolean saveJob(JobDescription job) {
+        if (dbManager.insertJobDescription(job) < 0) {
+            return false;
+        }
+
+        jobsById.put(job.getId(), job);
+        rebuild(job);
+        return true;
+    }
+
+    /**
+     * Returns the best matches for a saved job, highest score first.
+     * The candidates on the leaderboard are read in one query and keep their stored scores;
+     * only their matched and missing skills are worked out.
+     * @param jobId The saved job's ID
+     * @return Up to the leaderboard size of match results, or an empty list for an unknown job
+     */
+    public synchronized List<MatchResult> getLeaderboard(int jobId) {
+        JobDescription job = jobsById.get(jobId);
+        if (job == null) {
+            return new ArrayList<>();
+        }
+
+        Leaderboard leaderboard = leaderboards.get(jobId);
+        if (leaderboard.truncated && leaderboard.entries.size() < size) {
+            // Deletes removed candidates that other, left-out candidates should replace
+            rebuild(job);
+            leaderboard = leaderboards.get(jobId);
+        }
+
+        List<LeaderboardEntry> shown = new ArrayList<>(size);
+        List<Integer> ids = new ArrayList<>(size);
+        for (LeaderboardEntry entry : leaderboard.entries) {
+            if (shown.size() == size) {
+                break;
+            }
+            shown.add(entry);
+            ids.add(entry.getCandidateId());
+        }
+
+        Map<Integer, Candidate> candidatesById = dbManager.getCandidatesByIds(ids);
+        List<Candidate> candidates = new ArrayList<>(shown.size());
+        double[] scores = new double[shown.size()];
+        for (LeaderboardEntry entry : shown) {
+            Candidate candidate = candidatesById.get(entry.getCandidateId());
+            if (candidate != null) {
+                scores[candidates.size()] = entry.getMatchScore();
+                candidates.add(candidate);
+            }
+        }
+        return jobMatcher.withStoredScores(candidates, Arrays.copyOf(scores, candidates.size()), job);
+    }
+
+    /**
+     * Queues the new candidates to be scored against the saved jobs and merged into their leaderboards.
+     */
+    @Override
+    public void candidatesInserted(List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        List<Candidate> inserted = new ArrayList<>(candidates);
+        updater.execute(() -> merge(inserted));
+    }
+
+    /**
+     * Queues the candidate's removal from the in-memory leaderboards, after any pending merges.
+     */
+    @Override
+    public void candidateDeleted(int id) {
+        updater.execute(() -> remove(id));
+    }
+
+    /**
+     * Stops the background update thread, if this manager created it. Pending changes are
+     * dropped; they are applied again by the next load() or rebuild.
+     */
+    public void close() {
+        if (ownUpdater != null) {
+            ownUpdater.shutdownNow();
+        }
+    }
+
+    /**
+     * Scores new candidates against every saved job in one batch, without holding the lock,
+     * and merges each job's results into its leaderboard.
+     */
+    private void merge(List<Candidate> candidates) {
+        List<JobDescription> jobs;
+        synchronized (this) {
+            jobs = new ArrayList<>(jobsById.values());
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        jobMatcher.matchJobs(jobs, candidates, capacity, 0.0,
+            (job, results, completed, total) -> merge(job, results, candidates.size()));
+    }
+
+    /**
+     * Merges one job's scored new candidates, best first, into its leaderboard.
+     * Merging a candidate that is already on it (e.g. after a rebuild) replaces its entry.
+     */
+    private synchronized void merge(JobDescription job, List<MatchResult> results, int candidateCount) {
+        Leaderboard leaderboard = leaderboards.get(job.getId());
+        if (leaderboard == null) {
+            return;
+        }
+        List<LeaderboardEntry> added = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+        boolean truncated = leaderboard.truncated || results.size() < candidateCount;
+
+        for (MatchResult result : results) {
+            LeaderboardEntry entry = new LeaderboardEntry(
+                job.getId(), result.getCandidate().getId(), result.getMatchScore());
+
+            if (leaderboard.entries.size() >= capacity) {
+                LeaderboardEntry worst = leaderboard.entries.last();
+                if (BEST_FIRST.compare(entry, worst) >= 0) {
+                    // Results are best first, so none of the rest can get on either
+                    truncated = true;
+                    break;
+                }
+                leaderboard.remove(worst.getCandidateId());
+                if (!added.remove(worst)) {
+                    removed.add(worst.getCandidateId());
+                }
+                truncated = true;
+            }
+            leaderboard.add(entry);
+            added.add(entry);
+        }
+
+        leaderboard.truncated = truncated;
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            dbManager.updateLeaderboard(job.getId(), added, removed, truncated);
+        }
+    }
+
+    /**
+     * Removes a deleted candidate from the leaderboards.
+     */
+    private synchronized void remove(int id) {
+        // The database removed the candidate's rows when it was deleted, but a merge that was
+        // already scoring it may have stored it again since
+        for (Map.Entry<Integer, Leaderboard> entry : leaderboards.entrySet()) {
+            Leaderboard leaderboard = entry.getValue();
+            if (leaderboard.remove(id)) {
+                dbManager.updateLeaderboard(entry.getKey(), new ArrayList<>(),
+                    Collections.singletonList(id), leaderboard.truncated);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a job's leaderboard by scoring all candidates against it.
+     */
+    private void rebuild(JobDescription job) {
+        List<Candidate> candidates = dbManager.getAllCandidates();
+        List<MatchResult> results = jobMatcher.findTopMatches(candidates, job, capacity, 0.0);
+
+        Leaderboard leaderboard = new Leaderboard();
+        for (MatchResult result : results) {
+            leaderboard.add(new LeaderboardEntry(
+                job.getId(), result.getCandidate().getId(), result.getMatchScore()));
+        }
+        leaderboard.truncated = results.size() < candidates.size();
+        leaderboards.put(job.getId(), leaderboard);
+
+        dbManager.replaceLeaderboard(job.getId(), new ArrayList<>(leaderboard.entries), leaderboard.truncated);
+    }
+
+    /**
+     * In-memory copy of one job's leaderboard, ordered best first.
+     */
+    private static final class Leaderboard {
+        private final TreeSet<LeaderboardEntry> entries = new TreeSet<>(BEST_FIRST);
+        private final Map<Integer, LeaderboardEntry> entriesByCandidate = new HashMap<>();
+        private boolean truncated;
+
+        void add(LeaderboardEntry entry) {
+            remove(entry.getCandidateId());
+            entries.add(entry);
+            entriesByCandidate.put(entry.getCandidateId(), entry);
+        }
+
+        boolean remove(int candidateId) {
+            LeaderboardEntry entry = entriesByCandidate.remove(candidateId);
+            if (entry == null) {
+                return false;
+            }
+            entries.remove(entry);
+            return true;
+        }
+    }
+}
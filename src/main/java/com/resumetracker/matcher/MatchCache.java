@@ -0,0 +1,200 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of top-k match results in front of a JobMatcher and SkillIndex.
+ *
+ * Recruiters tend to run the same job again and again; with the cache a repeated query returns the
+ * stored ranking instead of rescoring the pool. Entries are keyed by the normalized job (title
+ * and required skills lowercased and trimmed as JobMatcher compares them, skills sorted, required
+ * years), k and the threshold, together with DatabaseManager's corpus version and the
+ * current month (ongoing experience counts up to it, so scores change from one month to the next).
+ * Any candidate insert or delete changes the version, so an entry computed before the change can
+ * never be looked up after it, and the whole cache is dropped the first time a new version is seen.
+ *
+ * Synonyms are not merged: "k8s" and "kubernetes" are separate entries, since partial matching
+ * can score the same candidate differently for each (a "kubernetes-admin" skill only contains
+ * one of them). Jobs sharing an entry score every candidate the same, but its results list skills
+ * in the case and order of the job matched first. Every call returns its own copies of the cached results,
+ * so callers may modify them freely.
+ *
+ * The index must be kept in sync by the same DatabaseManager. All methods are synchronized except
+ * that matching on a miss runs outside the lock, so a slow match does not block hits.
+ */
+public class MatchCache {
+    private final JobMatcher jobMatcher;
+    private final SkillIndex skillIndex;
+    private final DatabaseManager dbManager;
+    private final int capacity;
+
+    private final Map<QueryKey, List<MatchResult>> entries;
+    private long cachedVersion;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache.
+     * @param jobMatcher The matcher to compute results with on a miss
+     * @param skillIndex The index of the candidates to match
+     * @param dbManager The database whose corpus version the entries are checked against
+     * @param capacity Maximum number of cached queries; the least recently used is evicted first
+     */
+    public MatchCache(JobMatcher jobMatcher, SkillIndex skillIndex, DatabaseManager dbManager, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.jobMatcher = jobMatcher;
+        this.skillIndex = skillIndex;
+        this.dbManager = dbManager;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<QueryKey, List<MatchResult>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, List<MatchResult>> eldest) {
+                return size() > MatchCache.this.capacity;
+            }
+        };
+        this.cachedVersion = dbManager.getCorpusVersion();
+    }
+
+    /**
+     * Returns the k best matches scoring at least the threshold among the indexed candidates,
+     * as JobMatcher.findTopMatches(SkillIndex, ...) would, from the cache if the same query has
+     * been run since the candidates last changed.
+     *
+     * @param job The job description to match against
+     * @param k Maximum number of results to return
+     * @param threshold Minimum score threshold (0.0 to 100.0)
+     * @return Up to k MatchResult objects sorted by score
+     */
+    public List<MatchResult> findTopMatches(JobDescription job, int k, double threshold) {
+        // Read before matching: if candidates change meanwhile, the result is filed under the old version
+        long version = dbManager.getCorpusVersion();
+        QueryKey key = new QueryKey(job, k, threshold, version);
+
+        synchronized (this) {
+            if (version != cachedVersion) {
+                entries.clear();
+                cachedVersion = version;
+            }
+            List<MatchResult> cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return copy(cached);
+            }
+            misses++;
+        }
+
+        List<MatchResult> results = jobMatcher.findTopMatches(skillIndex, job, k, threshold);
+
+        synchronized (this) {
+            // Only file results of the version the cache holds; older ones can never be hit again
+            if (version == cachedVersion) {
+                entries.put(key, copy(results));
+            }
+        }
+        // The matcher may return a read-only view; hits return modifiable lists, so misses do too
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Returns a new list of copies of the given results.
+     */
+    private static List<MatchResult> copy(List<MatchResult> results) {
+        List<MatchResult> copies = new ArrayList<>(results.size());
+        for (MatchResult result : results) {
+            copies.add(new MatchResult(result));
+        }
+        return copies;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached queries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of queries that had to be matched.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * A normalized match query and the corpus version it was run against.
+     */
+    private static final class QueryKey {
+        private final String title;
+        private final List<String> requiredSkills;
+        private final int requiredYears;
+        private final int k;
+        private final double threshold;
+        private final long version;
+        private final YearMonth month;
+        private final int hash;
+
+        QueryKey(JobDescription job, int k, double threshold, long version) {
+            this.title = job.getJobTitle() != null ? SkillDictionary.normalize(job.getJobTitle()) : "";
+            this.requiredSkills = new ArrayList<>();
+            if (job.getRequiredSkills() != null) {
+                for (String skill : job.getRequiredSkills()) {
+                    // Null skills match nothing but still count towards the total
+                    requiredSkills.add(skill != null ? SkillDictionary.normalize(skill) : null);
+                }
+            }
+            requiredSkills.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+            this.requiredYears = job.getRequiredYearsOfExperience();
+            this.k = k;
+            this.threshold = threshold;
+            this.version = version;
+            this.month = YearMonth.now();
+            this.hash = Objects.hash(title, requiredSkills, requiredYears, k, threshold, version, month);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return requiredYears == other.requiredYears && k == other.k &&
+                   Double.compare(threshold, other.threshold) == 0 && version == other.version &&
+                   month.equals(other.month) && title.equals(other.title) &&
+                   requiredSkills.equals(other.requiredSkills);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+/**
+ * The scores of many candidates against one job, stored column by column in primitive arrays.
+ *
+ * Scoring a large pool one MatchResult per candidate costs an object, a mask array and a list
+ * entry each, and they all stay alive until the caller is done with the ranking. A table instead
+ * keeps one row per candidate in parallel arrays (candidate IDs, scores, and the bitmask of matched
+ * required skills packed into one long array) and ranks the rows with a primitive index sort.
+ * A MatchResult is only built when a row is read, so a caller that shows or writes a few rows at a
+ * time never holds more than those in memory.
+ *
+ * Rows are ranked by score, highest first, with ties in input order. Built by
+ * JobMatcher.scoreCandidates and immutable once built.
+ */
+public final class MatchTable {
+    private final JobDescription job;
+    private final List<Candidate> candidates;
+
+    // Columns, indexed by the candidate's position in the scored list
+    private final int[] candidateIds;
+    private final double[] scores;
+    private final long[] matchMasks; // Row p's mask is matchMasks[p * maskWords, (p + 1) * maskWords)
+    private final int maskWords;
+
+    // Positions of the rows that met the threshold, best first
+    private final int[] ranking;
+
+    // Builds a full result from a candidate and its matched skills mask
+    private final BiFunction<Candidate, long[], MatchResult> resultBuilder;
+
+    /**
+     * Creates a table and ranks the given rows.
+     * @param rows Positions of the rows to rank, in ascending order; used as the ranking array
+     */
+    MatchTable(JobDescription job, List<Candidate> candidates, int[] candidateIds, double[] scores,
+               long[] matchMasks, int maskWords, int[] rows,
+               BiFunction<Candidate, long[], MatchResult> resultBuilder) {
+        this.job = job;
+        this.candidates = candidates;
+        this.candidateIds = candidateIds;
+        this.scores = scores;
+        this.matchMasks = matchMasks;
+        this.maskWords = maskWords;
+        this.resultBuilder = resultBuilder;
+        this.ranking = rows;
+        sortByScore(ranking, scores);
+    }
+
+    public JobDescription getJobDescription() {
+        return job;
+    }
+
+    /**
+     * Returns the number of ranked rows (candidates that met the threshold).
+     */
+    public int size() {
+        return ranking.length;
+    }
+
+    public int getCandidateId(int rank) {
+        return candidateIds[ranking[rank]];
+    }
+
+    public Candidate getCandidate(int rank) {
+        return candidates.get(ranking[rank]);
+    }
+
+    public double getScore(int rank) {
+        return scores[ranking[rank]];
+    }
+
+    /**
+     * Returns the number of required skills the candidate at the given rank has.
+     */
+    public int getMatchedSkillCount(int rank) {
+        int offset = ranking[rank] * maskWords;
+        int count = 0;
+        for (int w = 0; w < maskWords; w++) {
+            count += Long.bitCount(matchMasks[offset + w]);
+        }
+        return count;
+    }
+
+    /**
+     * Builds the full match result of the candidate at the given rank.
+     * A new result is built on every call; nothing is cached.
+     * @param rank 0 for the best match
+     */
+    public MatchResult getResult(int rank) {
+        int position = ranking[rank];
+        long[] mask = Arrays.copyOfRange(matchMasks, position * maskWords, (position + 1) * maskWords);
+        return resultBuilder.apply(candidates.get(position), mask);
+    }
+
+    /**
+     * Builds the full match results of the ranks from fromRank (inclusive) to toRank (exclusive),
+     * e.g. one page of a results view.
+     */
+    public List<MatchResult> getResults(int fromRank, int toRank) {
+        List<MatchResult> results = new ArrayList<>(Math.max(0, toRank - fromRank));
+        for (int rank = fromRank; rank < toRank; rank++) {
+            results.add(getResult(rank));
+        }
+        return results;
+    }
+
+    /**
+     * Returns a read-only list view of the ranked results that builds each one the first time it is
+     * read and then keeps it, so unread rows cost nothing and reading a row again returns the same
+     * result.
+     */
+    public List<MatchResult> asList() {
+        return new ResultList();
+    }
+
+    /**
+     * Sorts row positions by descending score. The sort is stable, so rows with equal scores keep
+     * their ascending position order. Bottom-up merge sort on primitive arrays: no boxing and no
+     * comparator calls.
+     */
+    private static void sortByScore(int[] rows, double[] scores) {
+        int[] source = rows;
+        int[] target = new int[rows.length];
+
+        for (int width = 1; width < rows.length; width *= 2) {
+            for (int from = 0; from < rows.length; from += 2 * width) {
+                int middle = Math.min(from + width, rows.length);
+                int to = Math.min(from + 2 * width, rows.length);
+                int left = from;
+                int right = middle;
+                for (int i = from; i < to; i++) {
+                    if (right >= to || (left < middle && scores[source[left]] >= scores[source[right]])) {
+                        target[i] = source[left++];
+                    } else {
+                        target[i] = source[right++];
+                    }
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != rows) {
+            System.arraycopy(source, 0, rows, 0, rows.length);
+        }
+    }
+
+    /**
+     * Read-only view of the table as MatchResults, built on each get.
+     */
+    private final class ResultList extends AbstractList<MatchResult> implements RandomAccess {
+        // Rows built so far, by rank
+        private final MatchResult[] built = new MatchResult[ranking.length];
+
+        @Override
+        public synchronized MatchResult get(int index) {
+            if (index < 0 || index >= ranking.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + ranking.length);
+            }
+            MatchResult result = built[index];
+            if (result == null) {
+                result = getResult(index);
+                built[index] = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return ranking.length;
+        }
+    }
+}
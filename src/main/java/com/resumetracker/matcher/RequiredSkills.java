@@ -0,0 +1,219 @@
+package com.resumetracker.matcher;
+
+import java.util.List;
+
+/**
+ * A job's required skills compiled against the skill dictionary for fast scoring.
+ *
+ * Required skill i is bit i of a match mask. For every dictionary skill the mask of required skills
+ * it satisfies is precomputed, so a candidate's matched skills are the OR of the masks of its skill
+ * IDs and the match count is a popcount: no string work happens per candidate.
+ *
+ * A candidate only worth scoring with enough matches can be counted with countMatched(skillIds,
+ * needed), which stops as soon as the candidate's remaining skills cannot make up the difference.
+ *
+ * Immutable once built, so one instance can be shared by all threads scoring the same job.
+ */
+final class RequiredSkills {
+    private final List<String> skills;
+    private final String[] normalizedSkills;
+    // Resolved on first use: only skills interned after compiling need them
+    private final String[] canonicalKeys;
+    private final int words;
+
+    // masks[id * words + w] holds bits 64w..64w+63 of dictionary skill id's mask
+    private final long[] masks;
+    private final int coveredSize;
+    // Most required skills satisfied by any one dictionary skill, bounding what each skill can add
+    private final int maxMatchesPerSkill;
+    private final SkillDictionary dictionary;
+
+    /**
+     * Compiles required skills against the dictionary as it is now.
+     * @param skills The job's required skills, in order
+     * @param dictionary The dictionary candidate skill IDs come from
+     */
+    RequiredSkills(List<String> skills, SkillDictionary dictionary) {
+        this.skills = skills;
+        this.dictionary = dictionary;
+        this.normalizedSkills = new String[skills.size()];
+        this.canonicalKeys = new String[skills.size()];
+        this.words = Math.max(1, (skills.size() + 63) / 64);
+
+        // Size the table before looking up matches so every ID returned below fits
+        this.coveredSize = dictionary.size();
+        this.masks = new long[coveredSize * words];
+
+        for (int i = 0; i < skills.size(); i++) {
+            String skill = skills.get(i);
+            if (skill == null) {
+                continue;
+            }
+            normalizedSkills[i] = SkillDictionary.normalize(skill);
+
+            for (int id : dictionary.matchingSkillIds(skill)) {
+                if (id < coveredSize) {
+                    masks[id * words + (i >>> 6)] |= 1L << i;
+                }
+            }
+        }
+
+        int maxMatches = 0;
+        for (int id = 0; id < coveredSize; id++) {
+            int matches = 0;
+            for (int w = 0; w < words; w++) {
+                matches += Long.bitCount(masks[id * words + w]);
+            }
+            maxMatches = Math.max(maxMatches, matches);
+        }
+        this.maxMatchesPerSkill = maxMatches;
+    }
+
+    List<String> getSkills() {
+        return skills;
+    }
+
+    int size() {
+        return skills.size();
+    }
+
+    boolean isEmpty() {
+        return skills.isEmpty();
+    }
+
+    /**
+     * Returns the number of longs in a match mask.
+     */
+    int words() {
+        return words;
+    }
+
+    /**
+     * Counts the required skills satisfied by at least one of the candidate's skills.
+     * @param skillIds The candidate's skill dictionary IDs
+     */
+    int countMatched(int[] skillIds) {
+        if (words == 1) {
+            long mask = 0L;
+            for (int id : skillIds) {
+                mask |= maskWord(id, 0);
+            }
+            return Long.bitCount(mask);
+        }
+
+        int count = 0;
+        for (long word : matchMask(skillIds)) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the required skills satisfied by the candidate's skills, giving up as soon as the
+     * count cannot reach the given number: the skills left to look at can add at most
+     * maxMatchesPerSkill each. Candidates with too few skills are rejected without any lookups.
+     * Skills interned after this job was compiled are not covered by that bound, so candidates
+     * with any of them are counted in full.
+     * @param skillIds The candidate's skill dictionary IDs, in ascending order
+     * @param needed The smallest count of interest
+     * @return The count, or -1 if it is less than needed
+     */
+    int countMatched(int[] skillIds, int needed) {
+        if (needed <= 0) {
+            return countMatched(skillIds);
+        }
+        if (skillIds.length > 0 && skillIds[skillIds.length - 1] >= coveredSize) {
+            // Not bounded by maxMatchesPerSkill; count this candidate in full
+            return countOrReject(countMatched(skillIds), needed);
+        }
+        if ((long) skillIds.length * maxMatchesPerSkill < needed) {
+            return -1;
+        }
+
+        int count = 0;
+        if (words == 1) {
+            long mask = 0L;
+            for (int i = 0; i < skillIds.length; i++) {
+                mask |= masks[skillIds[i]];
+                count = Long.bitCount(mask);
+                if (count + (skillIds.length - i - 1) * maxMatchesPerSkill < needed) {
+                    return -1;
+                }
+            }
+            return countOrReject(count, needed);
+        }
+
+        long[] mask = new long[words];
+        for (int i = 0; i < skillIds.length; i++) {
+            int id = skillIds[i];
+            for (int w = 0; w < words; w++) {
+                long word = mask[w] | masks[id * words + w];
+                count += Long.bitCount(word) - Long.bitCount(mask[w]);
+                mask[w] = word;
+            }
+            if (count + (long) (skillIds.length - i - 1) * maxMatchesPerSkill < needed) {
+                return -1;
+            }
+        }
+        return countOrReject(count, needed);
+    }
+
+    private static int countOrReject(int count, int needed) {
+        return count >= needed ? count : -1;
+    }
+
+    /**
+     * Returns the mask of required skills satisfied by the candidate's skills (bit i = required skill i).
+     * @param skillIds The candidate's skill dictionary IDs
+     */
+    long[] matchMask(int[] skillIds) {
+        long[] mask = new long[words];
+        matchMask(skillIds, mask, 0);
+        return mask;
+    }
+
+    /**
+     * Writes the mask of required skills satisfied by the candidate's skills into
+     * mask[offset, offset + words()), e.g. one row of a MatchTable column.
+     * @param skillIds The candidate's skill dictionary IDs
+     * @return The number of required skills satisfied
+     */
+    int matchMask(int[] skillIds, long[] mask, int offset) {
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            long word = 0L;
+            for (int id : skillIds) {
+                word |= maskWord(id, w);
+            }
+            mask[offset + w] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns one word of a dictionary skill's mask. Skills interned after this job was compiled
+     * (by an ingestion running concurrently) are compared directly.
+     */
+    private long maskWord(int id, int word) {
+        if (id < coveredSize) {
+            return masks[id * words + word];
+        }
+
+        long mask = 0L;
+        int end = Math.min(normalizedSkills.length, (word + 1) * 64);
+        for (int i = word * 64; i < end; i++) {
+            if (normalizedSkills[i] == null) {
+                continue;
+            }
+            if (canonicalKeys[i] == null) {
+                // Racing threads store the same immutable key, so no locking is needed
+                canonicalKeys[i] = dictionary.canonicalize(normalizedSkills[i]);
+            }
+            if (dictionary.satisfies(id, normalizedSkills[i], canonicalKeys[i])) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}
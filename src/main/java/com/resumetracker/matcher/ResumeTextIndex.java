@@ -0,0 +1,307 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.CandidateChangeListener;
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory BM25 full-text index over the stored resume text of every candidate.
+ *
+ * Skill matching only sees the skills section, so a candidate who lists a skill only in their
+ * experience bullets scores nothing for it. This index ranks candidates by how relevant their
+ * whole resume is to a job's required skills, for use as an extra score component in JobMatcher.
+ *
+ * Postings are primitive int arrays, one per term, each entry packing a document number and the
+ * term's frequency in it, so the index costs four bytes per distinct term per resume. A query
+ * accumulates scores term at a time straight from the posting lists of the query terms into a
+ * float array, which keeps queries in the millisecond range even over hundreds of thousands of
+ * resumes.
+ *
+ * Register the index with DatabaseManager.addCandidateListener to keep it in sync with inserts
+ * and deletes. Removed resumes are only marked as deleted; their postings are skipped until the
+ * index is rebuilt. All methods are synchronized.
+ */
+public class ResumeTextIndex implements CandidateChangeListener {
+    // Standard BM25 parameters: term frequency saturation and document length normalization
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Postings pack (document << FREQUENCY_BITS) | frequency, so documents must fit in the rest
+    private static final int FREQUENCY_BITS = 8;
+    private static final int MAX_FREQUENCY = (1 << FREQUENCY_BITS) - 1;
+    private static final int MAX_DOCUMENTS = 1 << (31 - FREQUENCY_BITS);
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+
+    // Per document (dense numbers in insertion order): candidate ID and length in terms
+    private int[] candidateIds = new int[1024];
+    private int[] documentLengths = new int[1024];
+    private int documentCount;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+    private long totalLength;
+
+    // Candidate ID -> document number + 1, 0 if the candidate is not indexed
+    private int[] documentsByCandidate = new int[1024];
+    private int maxCandidateId;
+
+    /**
+     * Indexes the stored resume text of every candidate in the database.
+     */
+    public synchronized void load(DatabaseManager dbManager) {
+        clear();
+        dbManager.forEachResumeText(this::add);
+        System.out.println("Indexed resume text of " + size() + " candidates (" + termIds.size() + " terms).");
+    }
+
+    /**
+     * Adds the resume text of newly inserted candidates to the index.
+     * Candidates without resume text (e.g. loaded from the database) are skipped.
+     */
+    public synchronized void addAll(List<Candidate> candidates) {
+        for (Candidate candidate : candidates) {
+            if (candidate.getResumeText() != null) {
+                add(candidate.getId(), candidate.getResumeText());
+            }
+        }
+    }
+
+    /**
+     * Indexes a candidate's resume text, replacing any text already indexed for the candidate.
+     * @param candidateId The candidate's database ID
+     * @param text The full resume text
+     */
+    public synchronized void add(int candidateId, String text) {
+        if (candidateId <= 0 || text == null) {
+            return;
+        }
+        if (documentCount == MAX_DOCUMENTS) {
+            System.err.println("Warning: Resume text index is full, not indexing candidate " + candidateId);
+            return;
+        }
+        remove(candidateId);
+
+        // Count term frequencies in this document
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = 0;
+        for (String term : tokenize(text)) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+            length++;
+        }
+
+        int document = documentCount++;
+        candidateIds = ensureCapacity(candidateIds, document);
+        documentLengths = ensureCapacity(documentLengths, document);
+        candidateIds[document] = candidateId;
+        documentLengths[document] = length;
+        totalLength += length;
+
+        documentsByCandidate = ensureCapacity(documentsByCandidate, candidateId);
+        documentsByCandidate[candidateId] = document + 1;
+        maxCandidateId = Math.max(maxCandidateId, candidateId);
+
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            int termId = termId(entry.getKey());
+            int size = postingSizes[termId];
+            if (postings[termId] == null) {
+                postings[termId] = new int[4];
+            } else if (size == postings[termId].length) {
+                postings[termId] = Arrays.copyOf(postings[termId], size * 2);
+            }
+            int frequency = Math.min(entry.getValue()[0], MAX_FREQUENCY);
+            postings[termId][size] = (document << FREQUENCY_BITS) | frequency;
+            postingSizes[termId] = size + 1;
+        }
+    }
+
+    /**
+     * Removes a candidate's resume text from the index.
+     * @param candidateId The candidate's ID
+     * @return true if the candidate was indexed
+     */
+    public synchronized boolean remove(int candidateId) {
+        if (candidateId < 0 || candidateId >= documentsByCandidate.length ||
+            documentsByCandidate[candidateId] == 0) {
+            return false;
+        }
+
+        int document = documentsByCandidate[candidateId] - 1;
+        documentsByCandidate[candidateId] = 0;
+        deleted.set(document);
+        deletedCount++;
+        totalLength -= documentLengths[document];
+        return true;
+    }
+
+    /**
+     * Scores every indexed resume against a job's required skills with BM25.
+     *
+     * Each skill is split into terms the same way resumes are, and the scores are scaled by their
+     * upper bound (every term present with saturated frequency), so they range from 0 to 100 like
+     * the other match score components. Terms that no resume contains are ignored.
+     *
+     * @param requiredSkills The job's required skills
+     * @return Scores from 0.0 to 100.0, indexed by candidate ID (IDs past the end score 0)
+     */
+    public synchronized float[] score(List<String> requiredSkills) {
+        float[] scores = new float[maxCandidateId + 1];
+        int liveDocuments = documentCount - deletedCount;
+        if (requiredSkills == null || liveDocuments == 0) {
+            return scores;
+        }
+
+        Set<String> queryTerms = new LinkedHashSet<>();
+        for (String skill : requiredSkills) {
+            if (skill != null) {
+                queryTerms.addAll(tokenize(skill));
+            }
+        }
+
+        float averageLength = Math.max(1.0f, (float) totalLength / liveDocuments);
+        double maxScore = 0.0;
+
+        for (String term : queryTerms) {
+            Integer termId = termIds.get(term);
+            if (termId == null) {
+                continue;
+            }
+            int[] posting = postings[termId];
+            int size = postingSizes[termId];
+
+            int documentFrequency = deletedCount == 0 ? size : countLive(posting, size);
+            if (documentFrequency == 0) {
+                continue;
+            }
+            float idf = (float) Math.log(1.0 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            maxScore += idf * (K1 + 1);
+
+            for (int i = 0; i < size; i++) {
+                int document = posting[i] >>> FREQUENCY_BITS;
+                if (deletedCount > 0 && deleted.get(document)) {
+                    continue;
+                }
+                int frequency = posting[i] & MAX_FREQUENCY;
+                float norm = K1 * (1 - B + B * documentLengths[document] / averageLength);
+                scores[candidateIds[document]] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+
+        if (maxScore > 0.0) {
+            float scale = (float) (100.0 / maxScore);
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] *= scale;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the number of indexed resumes.
+     */
+    public synchronized int size() {
+        return documentCount - deletedCount;
+    }
+
+    /**
+     * Returns the number of distinct indexed terms.
+     */
+    public synchronized int getTermCount() {
+        return termIds.size();
+    }
+
+    /**
+     * Removes every resume from the index.
+     */
+    public synchronized void clear() {
+        termIds.clear();
+        postings = new int[1024][];
+        postingSizes = new int[1024];
+        candidateIds = new int[1024];
+        documentLengths = new int[1024];
+        documentCount = 0;
+        deleted.clear();
+        deletedCount = 0;
+        totalLength = 0;
+        documentsByCandidate = new int[1024];
+        maxCandidateId = 0;
+    }
+
+    @Override
+    public void candidatesInserted(List<Candidate> candidates) {
+        addAll(candidates);
+    }
+
+    @Override
+    public void candidateDeleted(int id) {
+        remove(id);
+    }
+
+    /**
+     * Splits text into lowercase terms: runs of letters and digits, keeping '+' and '#'
+     * so that "C++" and "C#" stay distinct from "C".
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c) || (c == '+' || c == '#') && term.length() > 0) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the ID of a term, adding it if it is new.
+     */
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = termIds.size();
+            termIds.put(term, id);
+            if (id == postings.length) {
+                postings = Arrays.copyOf(postings, id * 2);
+                postingSizes = Arrays.copyOf(postingSizes, id * 2);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Counts the postings of documents that have not been removed.
+     */
+    private int countLive(int[] posting, int size) {
+        int live = 0;
+        for (int i = 0; i < size; i++) {
+            if (!deleted.get(posting[i] >>> FREQUENCY_BITS)) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Grows an array so that it has the given index.
+     */
+    private static int[] ensureCapacity(int[] array, int index) {
+        if (index < array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+    }
+}
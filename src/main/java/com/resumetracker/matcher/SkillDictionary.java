@@ -0,0 +1,277 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Global dictionary that interns normalized skill names as dense integer IDs.
+ *
+ * Candidate skills are normalized (lowercased and trimmed) and encoded once, when the candidate is
+ * indexed or first matched, instead of on every query. The expensive partial/synonym comparison in
+ * JobMatcher.skillMatches then only runs once per (dictionary skill, required skill) pair: the set
+ * of dictionary IDs satisfying a required skill is cached and extended as new skills are interned.
+ *
+ * Uses the Singleton pattern so that IDs mean the same thing everywhere. IDs are never reused or
+ * removed, so cached match sets stay valid as the dictionary grows. Thread-safe.
+ *
+ * Each skill is also resolved once, at intern time, to its canonical key in the synonym table
+ * loaded when the dictionary is created (see SkillSynonyms), including correcting misspellings
+ * of known skills. Required skills are resolved once per cached match set, so typo tolerance
+ * adds nothing to the cost of a match.
+ *
+ * A dictionary skill also satisfies every required skill it implies in the skill taxonomy (see
+ * SkillTaxonomy), e.g. "kotlin" satisfies "jvm languages". The taxonomy term of each skill is
+ * looked up at intern time and the implication is one bit test against the precomputed closure,
+ * made when the match set is extended; per candidate, the implied skills are already part of the
+ * required skill masks that RequiredSkills ORs together.
+ */
+public class SkillDictionary {
+    // Bound on the number of distinct required skills whose match sets are kept
+    private static final int MAX_CACHED_REQUIREMENTS = 10_000;
+
+    private static SkillDictionary instance;
+
+    private final Map<String, Integer> idsBySkill = new HashMap<>();
+    private final List<String> skills = new ArrayList<>();
+    // Canonical synonym key of each skill, by ID
+    private final List<String> canonicalKeys = new ArrayList<>();
+    // Taxonomy term ID of each skill, or -1, by ID
+    private final List<Integer> termIds = new ArrayList<>();
+    private final SkillSynonyms synonyms;
+    private final SkillTaxonomy taxonomy;
+
+    // Normalized required skill -> dictionary IDs that satisfy it, least recently used first
+    private final Map<String, CachedMatches> matchCache = newMatchCache();
+    // Normalized excluded skill -> dictionary IDs it excludes, least recently used first
+    private final Map<String, CachedMatches> exclusionCache = newMatchCache();
+
+    /**
+     * Private constructor to prevent direct instantiation (Singleton pattern).
+     */
+    private SkillDictionary() {
+        synonyms = SkillSynonyms.loadDefault();
+        taxonomy = SkillTaxonomy.loadDefault(synonyms);
+    }
+
+    /**
+     * Returns the singleton instance of SkillDictionary.
+     */
+    public static synchronized SkillDictionary getInstance() {
+        if (instance == null) {
+            instance = new SkillDictionary();
+        }
+        return instance;
+    }
+
+    /**
+     * Normalizes a skill name the way JobMatcher compares skills: lowercase and trimmed.
+     */
+    public static String normalize(String skill) {
+        return skill.toLowerCase().trim();
+    }
+
+    /**
+     * Returns the ID of a skill, adding it to the dictionary if it is new.
+     * @param skill The skill name (normalized here)
+     * @return The skill's ID
+     */
+    public synchronized int intern(String skill) {
+        String normalized = normalize(skill);
+        Integer id = idsBySkill.get(normalized);
+        if (id == null) {
+            id = skills.size();
+            idsBySkill.put(normalized, id);
+            skills.add(normalized);
+            String key = synonyms.canonicalize(normalized);
+            canonicalKeys.add(key);
+            termIds.add(taxonomy.termId(key));
+        }
+        return id;
+    }
+
+    /**
+     * Interns a list of skills.
+     * @param skillNames The skill names; null list or null entries are ignored
+     * @return The distinct skill IDs in ascending order
+     */
+    public synchronized int[] encode(List<String> skillNames) {
+        if (skillNames == null || skillNames.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] ids = new int[skillNames.size()];
+        int count = 0;
+        for (String skill : skillNames) {
+            if (skill != null) {
+                ids[count++] = intern(skill);
+            }
+        }
+        Arrays.sort(ids, 0, count);
+
+        // Drop duplicates, e.g. "Java" and "java "
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Returns a candidate's skill IDs, encoding and storing them on the candidate
+     * if its skills have not been encoded yet.
+     * @param candidate The candidate
+     * @return The distinct skill IDs in ascending order
+     */
+    public int[] encode(Candidate candidate) {
+        int[] skillIds = candidate.getSkillIds();
+        if (skillIds == null) {
+            skillIds = encode(candidate.getSkills());
+            candidate.setSkillIds(skillIds);
+        }
+        return skillIds;
+    }
+
+    /**
+     * Returns the IDs of all dictionary skills that satisfy a required skill
+     * according to JobMatcher's partial and synonym matching or the skill taxonomy.
+     * @param requiredSkill The required skill (normalized here)
+     * @return Matching skill IDs in ascending order
+     */
+    public synchronized int[] matchingSkillIds(String requiredSkill) {
+        return lookUp(matchCache, requiredSkill, true);
+    }
+
+    /**
+     * Returns the IDs of all dictionary skills that a must-not clause excludes: the skill itself,
+     * its synonyms and the skills implying it in the skill taxonomy. Unlike matchingSkillIds there
+     * is no partial matching, so excluding "contract only" does not exclude "c" or "r".
+     * @param excludedSkill The excluded skill (normalized here)
+     * @return Excluded skill IDs in ascending order
+     */
+    public synchronized int[] excludedSkillIds(String excludedSkill) {
+        return lookUp(exclusionCache, excludedSkill, false);
+    }
+
+    /**
+     * Helper method to extend and return a cached match set.
+     * @param partial Whether skills containing or contained in the required skill also satisfy it
+     */
+    private int[] lookUp(Map<String, CachedMatches> cache, String requiredSkill, boolean partial) {
+        String normalizedRequired = normalize(requiredSkill);
+        CachedMatches cached = cache.get(normalizedRequired);
+        if (cached == null) {
+            String requiredKey = synonyms.canonicalize(normalizedRequired);
+            cached = new CachedMatches(requiredKey, taxonomy.termId(requiredKey));
+            cache.put(normalizedRequired, cached);
+        }
+
+        // Only compare skills interned since this requirement was last looked up
+        for (int id = cached.coveredSize; id < skills.size(); id++) {
+            boolean matches = partial
+                ? satisfies(id, normalizedRequired, cached.requiredKey, cached.requiredTerm)
+                : isSynonymOrImplies(id, normalizedRequired, cached.requiredKey, cached.requiredTerm);
+            if (matches) {
+                cached.ids.set(id);
+            }
+        }
+        cached.coveredSize = skills.size();
+
+        return cached.ids.stream().toArray();
+    }
+
+    /**
+     * Checks whether a dictionary skill satisfies a required skill, for skills interned after
+     * a job's match sets were taken.
+     * @param id The dictionary skill's ID
+     * @param normalizedRequired The required skill, lowercased and trimmed
+     * @param requiredKey The required skill's canonical key
+     */
+    synchronized boolean satisfies(int id, String normalizedRequired, String requiredKey) {
+        return satisfies(id, normalizedRequired, requiredKey, taxonomy.termId(requiredKey));
+    }
+
+    private boolean satisfies(int id, String normalizedRequired, String requiredKey, int requiredTerm) {
+        if (JobMatcher.skillMatches(skills.get(id), canonicalKeys.get(id), normalizedRequired, requiredKey)) {
+            return true;
+        }
+        return implies(id, requiredTerm);
+    }
+
+    private boolean isSynonymOrImplies(int id, String normalizedRequired, String requiredKey, int requiredTerm) {
+        if (skills.get(id).equals(normalizedRequired) || canonicalKeys.get(id).equals(requiredKey)) {
+            return true;
+        }
+        return implies(id, requiredTerm);
+    }
+
+    private boolean implies(int id, int requiredTerm) {
+        int term = termIds.get(id);
+        return term >= 0 && requiredTerm >= 0 && taxonomy.implies(term, requiredTerm);
+    }
+
+    /**
+     * Creates an empty LRU map of match sets bounded to MAX_CACHED_REQUIREMENTS entries.
+     */
+    private static Map<String, CachedMatches> newMatchCache() {
+        return new LinkedHashMap<String, CachedMatches>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMatches> eldest) {
+                return size() > MAX_CACHED_REQUIREMENTS;
+            }
+        };
+    }
+
+    /**
+     * Returns the normalized skill name for an ID.
+     */
+    public synchronized String getSkill(int id) {
+        return skills.get(id);
+    }
+
+    /**
+     * Returns the canonical synonym key for an ID.
+     */
+    public synchronized String getCanonicalKey(int id) {
+        return canonicalKeys.get(id);
+    }
+
+    /**
+     * Resolves a skill name to its canonical synonym key without interning it.
+     * Uses the cached key if the skill has been looked up as a required skill.
+     */
+    public synchronized String canonicalize(String skill) {
+        CachedMatches cached = matchCache.get(normalize(skill));
+        return cached != null ? cached.requiredKey : synonyms.canonicalize(skill);
+    }
+
+    /**
+     * Returns the number of distinct skills interned so far.
+     */
+    public synchronized int size() {
+        return skills.size();
+    }
+
+    /**
+     * Skill IDs known to satisfy one required skill, and how much of the dictionary has been checked.
+     */
+    private static final class CachedMatches {
+        private final String requiredKey;
+        private final int requiredTerm;
+        private final BitSet ids = new BitSet();
+        private int coveredSize;
+
+        CachedMatches(String requiredKey, int requiredTerm) {
+            this.requiredKey = requiredKey;
+            this.requiredTerm = requiredTerm;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.CandidateChangeListener;
+import com.resumetracker.model.Candidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory inverted index from skill dictionary ID to the IDs of candidates listing that skill.
+ *
+ * Scoring every candidate in the database makes each match O(corpus). With this index a match
+ * only touches the posting lists of skills that satisfy a required skill, so the cost depends on
+ * how many candidates share a skill with the job rather than on how many candidates exist.
+ *
+ * Register the index with DatabaseManager.addCandidateListener to keep it in sync with inserts
+ * and deletes. All methods are synchronized: ingestion updates the index on a background thread
+ * while matches run on the UI thread.
+ */
+public class SkillIndex implements CandidateChangeListener {
+    // Skill dictionary ID -> IDs of candidates listing the skill
+    private final Map<Integer, Set<Integer>> postings = new HashMap<>();
+    private final Map<Integer, Candidate> candidatesById = new HashMap<>();
+    // Skill IDs each candidate was indexed under, kept in case its skills change later
+    private final Map<Integer, int[]> indexedSkillIds = new HashMap<>();
+    private final SkillDictionary dictionary = SkillDictionary.getInstance();
+
+    // Up to this many posting lists are probed per candidate when filtering by a query clause;
+    // beyond it the candidate's own skills are looked up instead
+    private static final int MAX_PROBED_POSTINGS = 8;
+
+    /**
+     * Adds candidates to the index, replacing any already indexed under the same ID.
+     * @param candidates Candidates with their database IDs set
+     */
+    public synchronized void addAll(List<Candidate> candidates) {
+        for (Candidate candidate : candidates) {
+            add(candidate);
+        }
+    }
+
+    /**
+     * Adds a candidate to the index, replacing any already indexed under the same ID.
+     * @param candidate A candidate with its database ID set
+     */
+    public synchronized void add(Candidate candidate) {
+        remove(candidate.getId());
+
+        // Encoding here means skills are normalized once, at ingestion, not on every match
+        int[] skillIds = dictionary.encode(candidate);
+        candidatesById.put(candidate.getId(), candidate);
+        indexedSkillIds.put(candidate.getId(), skillIds);
+
+        for (int skillId : skillIds) {
+            postings.computeIfAbsent(skillId, key -> new HashSet<>()).add(candidate.getId());
+        }
+    }
+
+    /**
+     * Removes a candidate from the index.
+     * @param id The candidate's ID
+     * @return true if the candidate was indexed
+     */
+    public synchronized boolean remove(int id) {
+        Candidate candidate = candidatesById.remove(id);
+        if (candidate == null) {
+            return false;
+        }
+
+        for (int skillId : indexedSkillIds.remove(id)) {
+            Set<Integer> ids = postings.get(skillId);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(skillId);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the indexed candidates that have at least one skill satisfying one of the required
+     * skills, using the same partial and synonym matching as JobMatcher. Candidates are returned
+     * in ID order, the order getAllCandidates() returns them in.
+     *
+     * The skill dictionary supplies the IDs of the skills satisfying each required skill (cached
+     * across queries), so only the posting lists of those skills are read.
+     *
+     * @param requiredSkills The job's required skills; if null or empty every candidate is returned
+     * @return The matching candidates
+     */
+    public synchronized List<Candidate> findCandidates(List<String> requiredSkills) {
+        return findCandidates(requiredSkills, null);
+    }
+
+    /**
+     * Returns the indexed candidates that have a skill satisfying one of the required skills,
+     * as findCandidates(requiredSkills), together with those given a positive score by
+     * alsoInclude, e.g. resume text scores indexed by candidate ID.
+     * @param alsoInclude Score per candidate ID, or null
+     */
+    synchronized List<Candidate> findCandidates(List<String> requiredSkills, float[] alsoInclude) {
+        if (requiredSkills == null || requiredSkills.isEmpty()) {
+            return inIdOrder(candidatesById.keySet());
+        }
+
+        Set<Integer> ids = new HashSet<>();
+        Set<Integer> visitedSkills = new HashSet<>();
+        for (String requiredSkill : requiredSkills) {
+            if (requiredSkill == null) {
+                continue;
+            }
+
+            for (int skillId : dictionary.matchingSkillIds(requiredSkill)) {
+                Set<Integer> posting = postings.get(skillId);
+                if (posting != null && visitedSkills.add(skillId)) {
+                    ids.addAll(posting);
+                }
+            }
+        }
+        if (alsoInclude != null) {
+            for (int id = 0; id < alsoInclude.length; id++) {
+                if (alsoInclude[id] > 0.0f && candidatesById.containsKey(id)) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        return inIdOrder(ids);
+    }
+
+    /**
+     * Returns the indexed candidates satisfying a skill query, in ID order: those with every must
+     * skill and no must-not skill, and with at least one should skill if there are no must skills.
+     *
+     * Runs as a plan over the posting lists. The must clauses are ordered by the total size of
+     * their posting lists and only the most selective one is read; each further must clause and
+     * each must-not clause is then checked against the skill IDs of the candidates still left, so
+     * every added clause can only shrink the work that follows it. Should clauses are only read
+     * when there are no must clauses. Must-not clauses exclude only the skill, its synonyms and
+     * the skills implying it, not every skill it partially matches (see excludedSkillIds).
+     *
+     * @param query The skill query
+     * @return The matching candidates
+     */
+    public synchronized List<Candidate> findCandidates(SkillQuery query) {
+        List<int[]> mustSkillIds = new ArrayList<>();
+        for (SkillQuery.Clause clause : query.getMustClauses()) {
+            mustSkillIds.add(dictionary.matchingSkillIds(clause.getSkill()));
+        }
+        mustSkillIds.sort(Comparator.comparingLong(this::postingSize));
+
+        int[] survivors;
+        if (mustSkillIds.isEmpty()) {
+            List<int[]> shouldSkillIds = new ArrayList<>();
+            for (SkillQuery.Clause clause : query.getShouldClauses()) {
+                shouldSkillIds.add(dictionary.matchingSkillIds(clause.getSkill()));
+            }
+            survivors = candidatesWithAnySkill(shouldSkillIds);
+        } else {
+            survivors = candidatesWithAnySkill(Collections.singletonList(mustSkillIds.get(0)));
+        }
+
+        int count = survivors.length;
+        for (int i = 1; i < mustSkillIds.size() && count > 0; i++) {
+            count = retain(survivors, count, mustSkillIds.get(i), true);
+        }
+        for (SkillQuery.Clause clause : query.getMustNotClauses()) {
+            if (count == 0) {
+                break;
+            }
+            count = retain(survivors, count, dictionary.excludedSkillIds(clause.getSkill()), false);
+        }
+
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(candidatesById.get(survivors[i]));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of indexed candidates.
+     */
+    public synchronized int size() {
+        return candidatesById.size();
+    }
+
+    /**
+     * Returns the number of distinct indexed skills.
+     */
+    public synchronized int getSkillCount() {
+        return postings.size();
+    }
+
+    /**
+     * Removes every candidate from the index.
+     */
+    public synchronized void clear() {
+        postings.clear();
+        candidatesById.clear();
+        indexedSkillIds.clear();
+    }
+
+    @Override
+    public void candidatesInserted(List<Candidate> candidates) {
+        addAll(candidates);
+    }
+
+    @Override
+    public void candidateDeleted(int id) {
+        remove(id);
+    }
+
+    /**
+     * Helper method to look up candidates for a set of IDs, sorted by ID.
+     */
+    private List<Candidate> inIdOrder(Set<Integer> ids) {
+        int[] sorted = sortedIds(ids);
+
+        List<Candidate> candidates = new ArrayList<>(sorted.length);
+        for (int id : sorted) {
+            candidates.add(candidatesById.get(id));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the total number of candidates listed under the given skills.
+     */
+    private long postingSize(int[] skillIds) {
+        long size = 0;
+        for (int skillId : skillIds) {
+            Set<Integer> posting = postings.get(skillId);
+            if (posting != null) {
+                size += posting.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the IDs of all candidates listed under any of the given skills, in ascending order.
+     */
+    private int[] candidatesWithAnySkill(List<int[]> skillIdSets) {
+        Set<Integer> visitedSkills = new HashSet<>();
+        int[] ids = new int[64];
+        int size = 0;
+        for (int[] skillIds : skillIdSets) {
+            for (int skillId : skillIds) {
+                Set<Integer> posting = postings.get(skillId);
+                if (posting == null || !visitedSkills.add(skillId)) {
+                    continue;
+                }
+                if (size + posting.size() > ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(size + posting.size(), ids.length * 2));
+                }
+                for (Integer id : posting) {
+                    ids[size++] = id;
+                }
+            }
+        }
+
+        // A candidate with several of the skills is listed once per skill
+        Arrays.sort(ids, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Keeps, in place and in order, the first count candidate IDs that have (or, if having is
+     * false, do not have) at least one of the given skills. Each ID is looked up in the posting
+     * lists of those skills or, if there are many, its own skills are looked up among them, so
+     * the cost depends on the number of IDs left, not on the length of the lists.
+     * @param skillIds Skill IDs in ascending order
+     * @return The number of IDs kept
+     */
+    private int retain(int[] ids, int count, int[] skillIds, boolean having) {
+        List<Set<Integer>> skillPostings = new ArrayList<>(skillIds.length);
+        for (int skillId : skillIds) {
+            Set<Integer> posting = postings.get(skillId);
+            if (posting != null) {
+                skillPostings.add(posting);
+            }
+        }
+
+        boolean probePostings = skillPostings.size() <= MAX_PROBED_POSTINGS;
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            Integer id = ids[i];
+            boolean has = false;
+            if (probePostings) {
+                for (int p = 0; p < skillPostings.size() && !has; p++) {
+                    has = skillPostings.get(p).contains(id);
+                }
+            } else {
+                has = hasAnySkill(indexedSkillIds.get(id), skillIds);
+            }
+            if (has == having) {
+                ids[kept++] = ids[i];
+            }
+        }
+        return kept;
+    }
+
+    private static boolean hasAnySkill(int[] candidateSkillIds, int[] skillIds) {
+        for (int skillId : candidateSkillIds) {
+            if (Arrays.binarySearch(skillIds, skillId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] sortedIds(Set<Integer> ids) {
+        int[] sorted = new int[ids.size()];
+        int i = 0;
+        for (Integer id : ids) {
+            sorted[i++] = id;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
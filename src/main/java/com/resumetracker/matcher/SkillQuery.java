@@ -0,0 +1,196 @@
+package com.resumetracker.matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A boolean query over candidate skills, for jobs that a flat list of equally weighted required
+ * skills cannot express, e.g. "must have Java, should have Kafka or Pulsar, must not be contract-only":
+ *
+ *     +java kafka pulsar -"contract only"
+ *
+ * Clauses are separated by spaces or commas. A clause is a skill, quoted if it contains spaces, with
+ * an optional prefix and boost:
+ * - "+skill": must have; candidates without it are not matched
+ * - "-skill": must not have; candidates with it are not matched
+ * - "skill": should have; adds to the score. Without any must clause, candidates need at least one
+ * - "skill^2": counts twice as much towards the skill score (any positive number)
+ *
+ * Skills are matched with JobMatcher's partial and synonym matching and the skill taxonomy, so
+ * +"jvm languages" also matches Kotlin developers. Must-not skills are matched without partial
+ * matching, so -"contract only" does not exclude candidates listing "C". The skill score is the
+ * boosted share of must and should skills a candidate has. Immutable.
+ */
+public final class SkillQuery {
+    private final String text;
+    private final List<Clause> mustClauses;
+    private final List<Clause> shouldClauses;
+    private final List<Clause> mustNotClauses;
+
+    private SkillQuery(String text, List<Clause> mustClauses, List<Clause> shouldClauses,
+                       List<Clause> mustNotClauses) {
+        this.text = text;
+        this.mustClauses = Collections.unmodifiableList(mustClauses);
+        this.shouldClauses = Collections.unmodifiableList(shouldClauses);
+        this.mustNotClauses = Collections.unmodifiableList(mustNotClauses);
+    }
+
+    /**
+     * Parses a skill query.
+     * @param text The query, e.g. +java kafka^2 pulsar -"contract only"
+     * @return The parsed query
+     * @throws IllegalArgumentException if the query is malformed or has no must or should clause
+     */
+    public static SkillQuery parse(String text) {
+        List<Clause> must = new ArrayList<>();
+        List<Clause> should = new ArrayList<>();
+        List<Clause> mustNot = new ArrayList<>();
+
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == ',') {
+                i++;
+                continue;
+            }
+
+            List<Clause> clauses = should;
+            if (c == '+' || c == '-') {
+                clauses = c == '+' ? must : mustNot;
+                i++;
+            }
+
+            // Skill: quoted, or up to the next separator or boost
+            String skill;
+            if (i < text.length() && text.charAt(i) == '"') {
+                int close = text.indexOf('"', i + 1);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unterminated quote at position " + i + ": " + text);
+                }
+                skill = text.substring(i + 1, close).trim();
+                i = close + 1;
+            } else {
+                int start = i;
+                while (i < text.length() && !isSeparator(text.charAt(i)) && text.charAt(i) != '^') {
+                    i++;
+                }
+                skill = text.substring(start, i);
+            }
+            if (skill.isEmpty()) {
+                throw new IllegalArgumentException("Missing skill at position " + i + ": " + text);
+            }
+
+            double boost = 1.0;
+            if (i < text.length() && text.charAt(i) == '^') {
+                int start = ++i;
+                while (i < text.length() && !isSeparator(text.charAt(i))) {
+                    i++;
+                }
+                boost = parseBoost(text.substring(start, i), skill);
+            }
+            if (i < text.length() && !isSeparator(text.charAt(i))) {
+                throw new IllegalArgumentException("Expected a separator at position " + i + ": " + text);
+            }
+
+            clauses.add(new Clause(skill, boost));
+        }
+
+        if (must.isEmpty() && should.isEmpty()) {
+            throw new IllegalArgumentException("Query has no must or should skills: " + text);
+        }
+        return new SkillQuery(text.trim(), must, should, mustNot);
+    }
+
+    /**
+     * Returns the must clauses, in query order.
+     */
+    public List<Clause> getMustClauses() {
+        return mustClauses;
+    }
+
+    /**
+     * Returns the should clauses, in query order.
+     */
+    public List<Clause> getShouldClauses() {
+        return shouldClauses;
+    }
+
+    /**
+     * Returns the must-not clauses, in query order.
+     */
+    public List<Clause> getMustNotClauses() {
+        return mustNotClauses;
+    }
+
+    /**
+     * Returns the skills that are scored: the must skills, then the should skills.
+     */
+    public List<String> getScoredSkills() {
+        List<String> skills = new ArrayList<>(mustClauses.size() + shouldClauses.size());
+        for (Clause clause : mustClauses) {
+            skills.add(clause.getSkill());
+        }
+        for (Clause clause : shouldClauses) {
+            skills.add(clause.getSkill());
+        }
+        return skills;
+    }
+
+    /**
+     * Returns the boosts of the scored skills, in getScoredSkills order.
+     */
+    double[] getScoredBoosts() {
+        double[] boosts = new double[mustClauses.size() + shouldClauses.size()];
+        int i = 0;
+        for (Clause clause : mustClauses) {
+            boosts[i++] = clause.getBoost();
+        }
+        for (Clause clause : shouldClauses) {
+            boosts[i++] = clause.getBoost();
+        }
+        return boosts;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == ',';
+    }
+
+    private static double parseBoost(String value, String skill) {
+        try {
+            double boost = Double.parseDouble(value);
+            if (boost > 0.0 && !Double.isInfinite(boost)) {
+                return boost;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Boost of " + skill + " must be a positive number: " + value);
+    }
+
+    /**
+     * One skill of a query and its boost.
+     */
+    public static final class Clause {
+        private final String skill;
+        private final double boost;
+
+        Clause(String skill, double boost) {
+            this.skill = skill;
+            this.boost = boost;
+        }
+
+        public String getSkill() {
+            return skill;
+        }
+
+        public double getBoost() {
+            return boost;
+        }
+    }
+}
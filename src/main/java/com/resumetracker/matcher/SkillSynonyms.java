@@ -0,0 +1,170 @@
+package com.resumetracker.matcher;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Alias table mapping skill names to a canonical form, loaded from a synonyms file.
+ *
+ * Each line of the file is a group "canonical = alias, alias, ..." or a lone canonical skill.
+ * Every name is reduced to a key (lowercase, without the separators . - _ / and whitespace) and
+ * the table maps each alias key to its canonical key, so resolving a skill is one hash lookup
+ * however large the taxonomy is.
+ *
+ * A skill that is not in the table but is within a small edit distance of names in it that all
+ * have the same canonical key (e.g. "kubernets", "postgress") resolves to that key. The closest name is found
+ * through a trigram index over the table, so typo tolerance does not scan the whole taxonomy.
+ * Short keys are never corrected: "java" and "jira" are too close to tell a typo from a skill.
+ *
+ * The default table is read from the file named by the resumetracker.synonyms system property,
+ * or else from skills/synonyms.txt on the classpath. Immutable once loaded.
+ */
+public final class SkillSynonyms {
+    public static final String FILE_PROPERTY = "resumetracker.synonyms";
+    private static final String DEFAULT_RESOURCE = "/skills/synonyms.txt";
+
+    // Characters ignored when comparing skills, e.g. "Node.js" vs "nodejs"
+    private static final Pattern SKILL_SEPARATORS = Pattern.compile("[.\\-_/\\s]");
+    private static final Pattern ALIAS_SEPARATOR = Pattern.compile("\\s*,\\s*");
+
+    // Keys shorter than this are never corrected; longer ones allow one edit, then two
+    private static final int MIN_CORRECTED_LENGTH = 6;
+    private static final int TWO_EDITS_LENGTH = 10;
+
+    private final Map<String, String> canonicalByAlias;
+    private final TrigramIndex names;
+
+    private SkillSynonyms(Map<String, String> canonicalByAlias) {
+        this.canonicalByAlias = canonicalByAlias;
+        this.names = new TrigramIndex(canonicalByAlias);
+    }
+
+    /**
+     * Loads the default synonym table: the file named by the resumetracker.synonyms system
+     * property if set, otherwise the bundled skills/synonyms.txt. Falls back to an empty
+     * table (separator-insensitive matching only) if neither can be read.
+     */
+    public static SkillSynonyms loadDefault() {
+        String path = System.getProperty(FILE_PROPERTY);
+        if (path != null && !path.trim().isEmpty()) {
+            try (InputStream stream = new FileInputStream(new File(path.trim()))) {
+                SkillSynonyms synonyms = load(stream);
+                System.out.println("Loaded " + synonyms.size() + " skill aliases from " + path.trim());
+                return synonyms;
+            } catch (IOException e) {
+                System.err.println("Warning: Could not load skill synonyms from " + path + ": " + e.getMessage());
+            }
+        }
+
+        try (InputStream stream = SkillSynonyms.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (stream == null) {
+                System.out.println("Skill synonyms file not found. Using exact skill matching only.");
+                return new SkillSynonyms(new HashMap<>());
+            }
+            SkillSynonyms synonyms = load(stream);
+            System.out.println("Loaded " + synonyms.size() + " skill aliases.");
+            return synonyms;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load skill synonyms: " + e.getMessage());
+            return new SkillSynonyms(new HashMap<>());
+        }
+    }
+
+    /**
+     * Reads a synonym table in the "canonical = alias, alias, ..." format; a line without '='
+     * names a canonical skill with no aliases. An alias listed in more than one group keeps
+     * its first canonical skill.
+     *
+     * @param stream The UTF-8 synonyms file
+     * @return The loaded table
+     */
+    public static SkillSynonyms load(InputStream stream) throws IOException {
+        Map<String, String> canonicalByAlias = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            int equals = line.indexOf('=');
+            String canonical = key(equals < 0 ? line : line.substring(0, equals));
+            if (canonical.isEmpty()) {
+                System.err.println("Warning: Ignoring skill synonyms line " + lineNumber + " without a skill: " + line);
+                continue;
+            }
+            addAlias(canonicalByAlias, canonical, canonical);
+            if (equals < 0) {
+                continue;
+            }
+            for (String alias : ALIAS_SEPARATOR.split(line.substring(equals + 1).trim())) {
+                String aliasKey = key(alias);
+                if (!aliasKey.isEmpty()) {
+                    addAlias(canonicalByAlias, aliasKey, canonical);
+                }
+            }
+        }
+
+        return new SkillSynonyms(canonicalByAlias);
+    }
+
+    /**
+     * Returns the canonical key of a skill: its separator-free lowercase form, mapped through
+     * the alias table, or through the closest name in the table if the skill looks like a
+     * misspelling of one. Two skills are synonyms exactly when their canonical keys are equal.
+     *
+     * A misspelled skill costs a trigram lookup, so callers resolve each distinct skill once
+     * (SkillDictionary does it when the skill is interned) rather than on every match.
+     */
+    public String canonicalize(String skill) {
+        String key = key(skill);
+        String canonical = canonicalByAlias.get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        String closest = names.findClosest(key, maxEdits(key));
+        return closest != null ? closest : key;
+    }
+
+    /**
+     * Returns the number of names (canonical skills and aliases) in the table.
+     */
+    public int size() {
+        return canonicalByAlias.size();
+    }
+
+    /**
+     * Returns how many edits a key may be away from a name in the table to be corrected to it.
+     */
+    private static int maxEdits(String key) {
+        if (key.length() < MIN_CORRECTED_LENGTH) {
+            return 0;
+        }
+        return key.length() < TWO_EDITS_LENGTH ? 1 : 2;
+    }
+
+    private static void addAlias(Map<String, String> canonicalByAlias, String alias, String canonical) {
+        String existing = canonicalByAlias.putIfAbsent(alias, canonical);
+        if (existing != null && !existing.equals(canonical)) {
+            System.err.println("Warning: Skill alias '" + alias + "' already maps to '" + existing +
+                "', ignoring mapping to '" + canonical + "'");
+        }
+    }
+
+    private static String key(String skill) {
+        return SKILL_SEPARATORS.matcher(skill.toLowerCase().trim()).replaceAll("");
+    }
+}
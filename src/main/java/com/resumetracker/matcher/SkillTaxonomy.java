@@ -0,0 +1,204 @@
+package com.resumetracker.matcher;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Skill hierarchy and implications, loaded from a taxonomy file, e.g. "Kotlin" is one of the
+ * "JVM languages" and "Spring Boot" implies "Spring". A candidate skill satisfies every required
+ * skill it implies, directly or through a chain of implications.
+ *
+ * Each line of the file is "parent > child, child, ..." (every child is a kind of the parent, so
+ * it implies the parent) or "skill => implied, implied, ..." (the skill implies each implied
+ * skill). Names are resolved to canonical keys with the synonym table, so aliases and spellings
+ * that are the same skill there are the same skill here.
+ *
+ * The transitive closure is computed once, at load time, into one bitset per skill of all the
+ * skills it implies, so checking an implication is a single bit test however deep the hierarchy.
+ * SkillDictionary folds these into the cached match sets of required skills, so hierarchical
+ * matching adds nothing to the cost of matching a candidate.
+ *
+ * The default taxonomy is read from the file named by the resumetracker.taxonomy system property,
+ * or else from skills/taxonomy.txt on the classpath. Immutable once loaded.
+ */
+public final class SkillTaxonomy {
+    public static final String FILE_PROPERTY = "resumetracker.taxonomy";
+    private static final String DEFAULT_RESOURCE = "/skills/taxonomy.txt";
+
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("\\s*,\\s*");
+
+    private final Map<String, Integer> termIds;
+    // Term ID -> IDs of all terms it implies, including itself
+    private final BitSet[] implied;
+
+    private SkillTaxonomy(Map<String, Integer> termIds, BitSet[] implied) {
+        this.termIds = termIds;
+        this.implied = implied;
+    }
+
+    /**
+     * Loads the default taxonomy: the file named by the resumetracker.taxonomy system property
+     * if set, otherwise the bundled skills/taxonomy.txt. Falls back to an empty taxonomy
+     * (no hierarchical matching) if neither can be read.
+     * @param synonyms The synonym table to resolve skill names with
+     */
+    public static SkillTaxonomy loadDefault(SkillSynonyms synonyms) {
+        String path = System.getProperty(FILE_PROPERTY);
+        if (path != null && !path.trim().isEmpty()) {
+            try (InputStream stream = new FileInputStream(new File(path.trim()))) {
+                SkillTaxonomy taxonomy = load(stream, synonyms);
+                System.out.println("Loaded " + taxonomy.size() + " taxonomy skills from " + path.trim());
+                return taxonomy;
+            } catch (IOException e) {
+                System.err.println("Warning: Could not load skill taxonomy from " + path + ": " + e.getMessage());
+            }
+        }
+
+        try (InputStream stream = SkillTaxonomy.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (stream == null) {
+                System.out.println("Skill taxonomy file not found. Hierarchical skill matching is disabled.");
+                return empty();
+            }
+            SkillTaxonomy taxonomy = load(stream, synonyms);
+            System.out.println("Loaded " + taxonomy.size() + " taxonomy skills.");
+            return taxonomy;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load skill taxonomy: " + e.getMessage());
+            return empty();
+        }
+    }
+
+    /**
+     * Reads a taxonomy in the "parent > child, ..." and "skill => implied, ..." format and
+     * computes its transitive closure. Cycles are allowed: skills on a cycle imply each other.
+     *
+     * @param stream The UTF-8 taxonomy file
+     * @param synonyms The synonym table to resolve skill names with
+     * @return The loaded taxonomy
+     */
+    public static SkillTaxonomy load(InputStream stream, SkillSynonyms synonyms) throws IOException {
+        Map<String, Integer> termIds = new HashMap<>();
+        // Term ID -> IDs of the terms it directly implies
+        List<List<Integer>> edges = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            boolean implies = line.contains("=>");
+            int operator = implies ? line.indexOf("=>") : line.indexOf('>');
+            String head = operator < 0 ? "" : line.substring(0, operator).trim();
+            String tail = operator < 0 ? "" : line.substring(operator + (implies ? 2 : 1)).trim();
+            if (head.isEmpty() || tail.isEmpty()) {
+                System.err.println("Warning: Ignoring skill taxonomy line " + lineNumber + ": " + line);
+                continue;
+            }
+
+            int headId = termId(termIds, edges, synonyms.canonicalize(head));
+            for (String skill : SKILL_SEPARATOR.split(tail)) {
+                if (skill.isEmpty()) {
+                    continue;
+                }
+                int skillId = termId(termIds, edges, synonyms.canonicalize(skill));
+                if (implies) {
+                    edges.get(headId).add(skillId);
+                } else {
+                    edges.get(skillId).add(headId);
+                }
+            }
+        }
+
+        return new SkillTaxonomy(termIds, closure(edges));
+    }
+
+    /**
+     * Returns the ID of the taxonomy skill with the given canonical key, or -1 if the
+     * taxonomy does not mention it.
+     * @param canonicalKey A key resolved with SkillSynonyms.canonicalize
+     */
+    public int termId(String canonicalKey) {
+        Integer id = termIds.get(canonicalKey);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Checks whether one taxonomy skill implies another, directly or transitively.
+     * Every skill implies itself.
+     * @param termId The implying skill's term ID
+     * @param impliedTermId The implied skill's term ID
+     */
+    public boolean implies(int termId, int impliedTermId) {
+        return implied[termId].get(impliedTermId);
+    }
+
+    /**
+     * Returns the number of distinct skills in the taxonomy.
+     */
+    public int size() {
+        return implied.length;
+    }
+
+    private static SkillTaxonomy empty() {
+        return new SkillTaxonomy(new HashMap<>(), new BitSet[0]);
+    }
+
+    private static int termId(Map<String, Integer> termIds, List<List<Integer>> edges, String key) {
+        Integer id = termIds.get(key);
+        if (id == null) {
+            id = edges.size();
+            termIds.put(key, id);
+            edges.add(new ArrayList<>(2));
+        }
+        return id;
+    }
+
+    /**
+     * Computes, for every term, the set of terms reachable from it (itself included)
+     * with a depth-first search from each term.
+     */
+    private static BitSet[] closure(List<List<Integer>> edges) {
+        BitSet[] implied = new BitSet[edges.size()];
+        Deque<Integer> pending = new ArrayDeque<>();
+
+        for (int term = 0; term < implied.length; term++) {
+            BitSet reached = new BitSet(implied.length);
+            reached.set(term);
+            pending.push(term);
+            while (!pending.isEmpty()) {
+                int current = pending.pop();
+                if (current < term) {
+                    // Closure already complete for lower terms
+                    reached.or(implied[current]);
+                    continue;
+                }
+                for (int next : edges.get(current)) {
+                    if (!reached.get(next)) {
+                        reached.set(next);
+                        pending.push(next);
+                    }
+                }
+            }
+            implied[term] = reached;
+        }
+        return implied;
+    }
+}
@@ -0,0 +1,146 @@
+package com.resumetracker.matcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over a fixed vocabulary for finding the closest term to a misspelled string.
+ * Each term has a canonical form, e.g. the skill an alias stands for, and lookups return that.
+ *
+ * Every term is split into the three-character substrings of "$term$"; a lookup only computes
+ * the edit distance to terms sharing enough trigrams with the query (an edit changes at most
+ * four trigrams, a swap of adjacent characters being the worst case), so it does not scan the
+ * whole vocabulary. Immutable once built.
+ */
+final class TrigramIndex {
+    private static final char BOUNDARY = '$';
+    private static final int TRIGRAMS_PER_EDIT = 4;
+
+    private final List<String> terms = new ArrayList<>();
+    private final List<String> canonicals = new ArrayList<>(); // By term ID
+    private final Map<String, List<Integer>> postings = new HashMap<>();
+
+    /**
+     * Builds an index over the given terms.
+     * @param canonicalByTerm Each term mapped to its canonical form
+     */
+    TrigramIndex(Map<String, String> canonicalByTerm) {
+        for (Map.Entry<String, String> entry : canonicalByTerm.entrySet()) {
+            String term = entry.getKey();
+            int id = terms.size();
+            terms.add(term);
+            canonicals.add(entry.getValue());
+            for (String trigram : trigrams(term)) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical form of the vocabulary term closest to the query within the given
+     * edit distance, or null if there is none or if equally close terms have different canonical
+     * forms (an ambiguous correction). Equally close terms with the same canonical form, such as
+     * two aliases of one skill, are not ambiguous.
+     */
+    String findClosest(String query, int maxDistance) {
+        if (maxDistance < 1 || terms.isEmpty()) {
+            return null;
+        }
+
+        Set<String> queryTrigrams = trigrams(query);
+        int minShared = queryTrigrams.size() - TRIGRAMS_PER_EDIT * maxDistance;
+        int[] shared = new int[terms.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        for (String trigram : queryTrigrams) {
+            List<Integer> ids = postings.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                if (shared[id]++ == 0) {
+                    candidates.add(id);
+                }
+            }
+        }
+
+        String closest = null;
+        int closestDistance = maxDistance + 1;
+        boolean ambiguous = false;
+
+        for (int id : candidates) {
+            String term = terms.get(id);
+            if (shared[id] < minShared || Math.abs(term.length() - query.length()) > maxDistance) {
+                continue;
+            }
+
+            // Bounded one past the best so far, so a farther term can never look like a tie
+            int distance = editDistance(query, term, closestDistance + 1);
+            if (distance < closestDistance) {
+                closest = canonicals.get(id);
+                closestDistance = distance;
+                ambiguous = false;
+            } else if (distance == closestDistance && closest != null && !closest.equals(canonicals.get(id))) {
+                ambiguous = true;
+            }
+        }
+
+        return ambiguous ? null : closest;
+    }
+
+    /**
+     * Returns the distinct trigrams of "$text$".
+     */
+    private static Set<String> trigrams(String text) {
+        String padded = BOUNDARY + text + BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Edit distance between two strings counting insertions, deletions, substitutions and swaps
+     * of adjacent characters (optimal string alignment), giving up once it must reach the limit.
+     * @return The distance, or limit if it is limit or more
+     */
+    private static int editDistance(String a, String b, int limit) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        int previousMin = 0;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j] + 1, current[j - 1] + 1));
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            // A swap reaches back two rows, so stop only once two rows in a row are at the limit
+            if (rowMin >= limit && previousMin >= limit) {
+                return limit;
+            }
+            previousMin = rowMin;
+
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.resumetracker.model;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +16,13 @@ public class Candidate {
     private List<String> skills;
     private List<String> education;
     private List<String> workExperience;
+    private String contentHash; // SHA-256 of the source file, used to skip re-parsing duplicates
+    private int[] skillIds; // Sorted skill dictionary IDs of the skills, null until encoded by the matcher
+    private String resumeText; // Full extracted resume text; only set on newly parsed candidates
+    private int[] minHash; // MinHash signature of the resume text, only set on newly parsed candidates
+    private int duplicateOf; // ID of the candidate this resume is a near-duplicate of, 0 if none
+    private double experienceYears = -1.0; // Years covered by the finished date ranges, -1 if unknown
+    private int experienceSince = -1; // Start month (year * 12 + month - 1) of an ongoing range, -1 if none
 
     /**
      * Default constructor initializes empty lists to avoid null pointer exceptions.
@@ -91,6 +99,7 @@ public class Candidate {
 
     public void setSkills(List<String> skills) {
         this.skills = skills;
+        this.skillIds = null;
     }
 
     public List<String> getEducation() {
@@ -109,6 +118,129 @@ public class Candidate {
         this.workExperience = workExperience;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Returns the full text extracted from the resume, or null if it is not loaded.
+     * Stored in the database but not read back by getAllCandidates, to keep the candidate list small.
+     */
+    public String getResumeText() {
+        return resumeText;
+    }
+
+    public void setResumeText(String resumeText) {
+        this.resumeText = resumeText;
+    }
+
+    /**
+     * Returns the MinHash signature of the resume text used for near-duplicate detection,
+     * or null if it is not loaded.
+     */
+    public int[] getMinHash() {
+        return minHash;
+    }
+
+    public void setMinHash(int[] minHash) {
+        this.minHash = minHash;
+    }
+
+    /**
+     * Returns the ID of the candidate whose resume this one nearly duplicates (an edited copy of
+     * the same resume), or 0 if it is an original. Near-duplicates are stored but not matched.
+     */
+    public int getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public void setDuplicateOf(int duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
+
+    /**
+     * Returns true if this candidate is a near-duplicate of another stored candidate.
+     */
+    public boolean isNearDuplicate() {
+        return duplicateOf > 0;
+    }
+
+    /**
+     * Returns the sorted skill dictionary IDs of this candidate's skills,
+     * or null if they have not been encoded since the skills were last set.
+     */
+    public int[] getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(int[] skillIds) {
+        this.skillIds = skillIds;
+    }
+
+    /**
+     * Returns the total years of work experience covered by the resume's date ranges as of
+     * this month (overlapping positions counted once), or a negative value if unknown.
+     */
+    public double getExperienceYears() {
+        return getExperienceYears(YearMonth.now());
+    }
+
+    /**
+     * Returns the total years of work experience as of the given month: the finished date ranges
+     * plus, if the resume has a range running to the present, the months from its start up to and
+     * including the given month. Negative if unknown.
+     */
+    public double getExperienceYears(YearMonth asOf) {
+        if (experienceSince < 0) {
+            return experienceYears;
+        }
+        int months = asOf.getYear() * 12 + asOf.getMonthValue() - experienceSince;
+        return Math.max(0.0, experienceYears) + Math.max(0, months) / 12.0;
+    }
+
+    /**
+     * Returns the years covered by the finished date ranges only, not counting any time already
+     * covered by the ongoing range, or a negative value if unknown.
+     */
+    public double getFinishedExperienceYears() {
+        return experienceYears;
+    }
+
+    /**
+     * Sets the years of experience, all in finished date ranges.
+     */
+    public void setExperienceYears(double experienceYears) {
+        setExperience(experienceYears, -1);
+    }
+
+    /**
+     * Sets the years of experience as finished years plus an ongoing range, which keeps counting.
+     * @param finishedYears Years covered by finished date ranges before the ongoing one, or negative if unknown
+     * @param ongoingSince Start month of the ongoing range as year * 12 + month - 1, or -1 if none
+     */
+    public void setExperience(double finishedYears, int ongoingSince) {
+        this.experienceYears = finishedYears;
+        this.experienceSince = ongoingSince;
+    }
+
+    /**
+     * Returns the start month of the resume's ongoing date range as year * 12 + month - 1, or -1 if none.
+     */
+    public int getExperienceSince() {
+        return experienceSince;
+    }
+
+    /**
+     * Returns true if the years of experience were computed from the resume.
+     */
+    public boolean hasExperienceYears() {
+        return experienceYears >= 0.0 || experienceSince >= 0;
+    }
+
     /**
      * Utility method to check if the candidate has any experience entries.
      */
@@ -0,0 +1,59 @@
+package com.resumetracker.model;
+
+/**
+ * One row of a saved job's leaderboard: a candidate and the score they had against the job.
+ */
+public class LeaderboardEntry {
+    private int jobId;
+    private int candidateId;
+    private double matchScore; // Score from 0.0 to 100.0
+
+    /**
+     * Default constructor.
+     */
+    public LeaderboardEntry() {
+    }
+
+    /**
+     * Constructor with all fields.
+     */
+    public LeaderboardEntry(int jobId, int candidateId, double matchScore) {
+        this.jobId = jobId;
+        this.candidateId = candidateId;
+        this.matchScore = matchScore;
+    }
+
+    // Getters and Setters
+    public int getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(int jobId) {
+        this.jobId = jobId;
+    }
+
+    public int getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(int candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(double matchScore) {
+        this.matchScore = matchScore;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaderboardEntry{" +
+                "jobId=" + jobId +
+                ", candidateId=" + candidateId +
+                ", matchScore=" + String.format("%.1f", matchScore) +
+                '}';
+    }
+}
@@ -2,18 +2,31 @@ package com.resumetracker.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Represents the result of matching a candidate against a job description.
  * Contains the match score, matched skills, and missing skills.
+ *
+ * Results built by JobMatcher are compact: they hold the job's required skills, a bitmask of
+ * which of them matched and the component scores. The matched and missing skill lists and the
+ * details text are only built when first read, since most results are never inspected.
  */
 public class MatchResult implements Comparable<MatchResult> {
     private Candidate candidate;
     private JobDescription jobDescription;
     private double matchScore; // Score from 0.0 to 100.0
-    private List<String> matchedSkills;
-    private List<String> missingSkills;
-    private String matchDetails; // Additional information about the match
+    private List<String> matchedSkills; // Built from matchedMask on first read if null
+    private List<String> missingSkills; // Built from matchedMask on first read if null
+    private String matchDetails; // Additional information about the match, built on first read if null
+
+    // Compact form the lists and details are built from
+    private List<String> requiredSkills;
+    private long[] matchedMask; // Bit i set if required skill i matched
+    private double skillScore;
+    private double experienceScore;
+    private double textScore;
+    private Function<MatchResult, String> detailsFormatter;
 
     /**
      * Default constructor initializes empty lists.
@@ -49,6 +62,48 @@ public class MatchResult implements Comparable<MatchResult> {
         this.matchDetails = matchDetails;
     }
 
+    /**
+     * Constructor for a compact result whose skill lists and details are built on first read.
+     * @param requiredSkills The job's required skills, shared rather than copied
+     * @param matchedMask Bit i (of word i / 64) is set if required skill i matched
+     * @param skillScore The skill component score (0-100)
+     * @param experienceScore The experience component score (0-100)
+     * @param textScore The resume text component score (0-100)
+     * @param detailsFormatter Builds the details text from this result when it is first read
+     */
+    public MatchResult(Candidate candidate, JobDescription jobDescription, double matchScore,
+                       List<String> requiredSkills, long[] matchedMask,
+                       double skillScore, double experienceScore, double textScore,
+                       Function<MatchResult, String> detailsFormatter) {
+        this.candidate = candidate;
+        this.jobDescription = jobDescription;
+        this.matchScore = matchScore;
+        this.requiredSkills = requiredSkills;
+        this.matchedMask = matchedMask;
+        this.skillScore = skillScore;
+        this.experienceScore = experienceScore;
+        this.textScore = textScore;
+        this.detailsFormatter = detailsFormatter;
+    }
+
+    /**
+     * Copy constructor. The skill lists are copied; the candidate and job are shared.
+     */
+    public MatchResult(MatchResult other) {
+        this.candidate = other.candidate;
+        this.jobDescription = other.jobDescription;
+        this.matchScore = other.matchScore;
+        this.matchedSkills = other.matchedSkills != null ? new ArrayList<>(other.matchedSkills) : null;
+        this.missingSkills = other.missingSkills != null ? new ArrayList<>(other.missingSkills) : null;
+        this.matchDetails = other.matchDetails;
+        this.requiredSkills = other.requiredSkills;
+        this.matchedMask = other.matchedMask;
+        this.skillScore = other.skillScore;
+        this.experienceScore = other.experienceScore;
+        this.textScore = other.textScore;
+        this.detailsFormatter = other.detailsFormatter;
+    }
+
     // Getters and Setters
     public Candidate getCandidate() {
         return candidate;
@@ -75,6 +130,9 @@ public class MatchResult implements Comparable<MatchResult> {
     }
 
     public List<String> getMatchedSkills() {
+        if (matchedSkills == null) {
+            matchedSkills = selectSkills(true);
+        }
         return matchedSkills;
     }
 
@@ -83,6 +141,9 @@ public class MatchResult implements Comparable<MatchResult> {
     }
 
     public List<String> getMissingSkills() {
+        if (missingSkills == null) {
+            missingSkills = selectSkills(false);
+        }
         return missingSkills;
     }
 
@@ -91,6 +152,9 @@ public class MatchResult implements Comparable<MatchResult> {
     }
 
     public String getMatchDetails() {
+        if (matchDetails == null && detailsFormatter != null) {
+            matchDetails = detailsFormatter.apply(this);
+        }
         return matchDetails;
     }
 
@@ -98,18 +162,32 @@ public class MatchResult implements Comparable<MatchResult> {
         this.matchDetails = matchDetails;
     }
 
+    public double getSkillScore() {
+        return skillScore;
+    }
+
+    public double getExperienceScore() {
+        return experienceScore;
+    }
+
+    public double getTextScore() {
+        return textScore;
+    }
+
     /**
      * Returns a comma-separated string of matched skills for display.
      */
     public String getMatchedSkillsAsString() {
-        return matchedSkills.isEmpty() ? "None" : String.join(", ", matchedSkills);
+        List<String> skills = getMatchedSkills();
+        return skills.isEmpty() ? "None" : String.join(", ", skills);
     }
 
     /**
      * Returns a comma-separated string of missing skills for display.
      */
     public String getMissingSkillsAsString() {
-        return missingSkills.isEmpty() ? "None" : String.join(", ", missingSkills);
+        List<String> skills = getMissingSkills();
+        return skills.isEmpty() ? "None" : String.join(", ", skills);
     }
 
     /**
@@ -132,8 +210,25 @@ public class MatchResult implements Comparable<MatchResult> {
         return "MatchResult{" +
                 "candidate=" + (candidate != null ? candidate.getName() : "null") +
                 ", matchScore=" + String.format("%.1f", matchScore) +
-                ", matchedSkills=" + matchedSkills.size() +
-                ", missingSkills=" + missingSkills.size() +
+                ", matchedSkills=" + getMatchedSkills().size() +
+                ", missingSkills=" + getMissingSkills().size() +
                 '}';
     }
+
+    /**
+     * Helper method to build the matched (or missing) skill list from the match mask.
+     */
+    private List<String> selectSkills(boolean matched) {
+        List<String> skills = new ArrayList<>();
+        if (requiredSkills == null) {
+            return skills;
+        }
+        for (int i = 0; i < requiredSkills.size(); i++) {
+            boolean isMatched = matchedMask != null && (matchedMask[i >>> 6] & (1L << i)) != 0;
+            if (isMatched == matched) {
+                skills.add(requiredSkills.get(i));
+            }
+        }
+        return skills;
+    }
 }
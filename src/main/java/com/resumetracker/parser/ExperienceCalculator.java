@@ -0,0 +1,158 @@
+package com.resumetracker.parser;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+
+/**
+ * Computes a candidate's total years of work experience from the date ranges in their resume.
+ *
+ * Every employment date range ("Jan 2019 - Mar 2021", "2015 – 2019", "06/2018 - present") becomes
+ * an interval of months. Overlapping intervals (concurrent jobs) are merged so no month counts
+ * twice, and the total is returned in years. Runs once at ingestion, so matching only compares
+ * stored numbers.
+ *
+ * A range running to the present keeps growing after the resume is parsed, so it is not folded
+ * into the total: the result is the years of the finished ranges before it plus the month the
+ * ongoing range started, and the total is worked out for whatever month it is needed.
+ *
+ * Thread-safe: holds no state.
+ */
+final class ExperienceCalculator {
+    // Unknown experience, e.g. no date ranges found
+    static final double UNKNOWN = -1.0;
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int EARLIEST_YEAR = 1950;
+
+    private ExperienceCalculator() {
+    }
+
+    /**
+     * Splits the experience covered by the date ranges in the text into the finished years and
+     * the start of the earliest range running to the present. Finished ranges are only counted
+     * up to that start, since the ongoing range covers everything after it.
+     * A year without a month starts in January and ends at the start of that year, so
+     * "2019 - 2021" counts as two years.
+     *
+     * @param experienceText The resume's experience section
+     * @param now The current month; later ranges and months are ignored
+     * @return The experience, with UNKNOWN finished years if the text contains no valid date range
+     */
+    static Experience calculate(String experienceText, YearMonth now) {
+        if (experienceText == null || experienceText.isEmpty()) {
+            return new Experience(UNKNOWN, -1);
+        }
+
+        int current = now.getYear() * MONTHS_PER_YEAR + now.getMonthValue() - 1;
+        List<int[]> intervals = new ArrayList<>();
+        int ongoingSince = -1;
+        Matcher matcher = ParserPatterns.DATE_RANGE.matcher(experienceText);
+
+        while (matcher.find()) {
+            int startYear = Integer.parseInt(matcher.group(3));
+            int startMonth = month(matcher.group(1), matcher.group(2), 1);
+            int start = startYear * MONTHS_PER_YEAR + startMonth - 1;
+            if (startYear < EARLIEST_YEAR || start > current) {
+                continue;
+            }
+
+            if (matcher.group(7) != null) {
+                // Ongoing: counted from the earliest start to whichever month the total is needed for
+                ongoingSince = ongoingSince < 0 ? start : Math.min(ongoingSince, start);
+                continue;
+            }
+
+            int endYear = Integer.parseInt(matcher.group(6));
+            int endMonth = month(matcher.group(4), matcher.group(5), 0);
+            // An end month is inclusive; a bare end year means up to that year
+            int end = endMonth > 0 ? endYear * MONTHS_PER_YEAR + endMonth : endYear * MONTHS_PER_YEAR;
+            end = Math.min(end, current + 1);
+            if (start < end) {
+                intervals.add(new int[] { start, end });
+            }
+        }
+
+        if (ongoingSince >= 0) {
+            List<int[]> beforeOngoing = new ArrayList<>(intervals.size());
+            for (int[] interval : intervals) {
+                if (interval[0] < ongoingSince) {
+                    beforeOngoing.add(new int[] { interval[0], Math.min(interval[1], ongoingSince) });
+                }
+            }
+            intervals = beforeOngoing;
+        } else if (intervals.isEmpty()) {
+            return new Experience(UNKNOWN, -1);
+        }
+
+        double finishedYears = intervals.isEmpty() ? 0.0 : mergedMonths(intervals) / (double) MONTHS_PER_YEAR;
+        return new Experience(finishedYears, ongoingSince);
+    }
+
+    /**
+     * Sums the length of the union of [start, end) month intervals.
+     */
+    private static int mergedMonths(List<int[]> intervals) {
+        intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        int total = 0;
+        int start = intervals.get(0)[0];
+        int end = intervals.get(0)[1];
+        for (int[] interval : intervals) {
+            if (interval[0] > end) {
+                total += end - start;
+                start = interval[0];
+                end = interval[1];
+            } else {
+                end = Math.max(end, interval[1]);
+            }
+        }
+        return total + end - start;
+    }
+
+    /**
+     * Years of experience split into the finished part and an ongoing range.
+     */
+    static final class Experience {
+        // Years covered by finished ranges before the ongoing one, or UNKNOWN
+        final double finishedYears;
+        // Start month of the ongoing range as year * 12 + month - 1, or -1 if none
+        final int ongoingSince;
+
+        Experience(double finishedYears, int ongoingSince) {
+            this.finishedYears = finishedYears;
+            this.ongoingSince = ongoingSince;
+        }
+    }
+
+    /**
+     * Returns the month (1-12) given by name or number, or the default if neither is given or valid.
+     */
+    private static int month(String name, String number, int defaultMonth) {
+        if (name != null) {
+            switch (name.substring(0, 3).toLowerCase(Locale.ROOT)) {
+                case "jan": return 1;
+                case "feb": return 2;
+                case "mar": return 3;
+                case "apr": return 4;
+                case "may": return 5;
+                case "jun": return 6;
+                case "jul": return 7;
+                case "aug": return 8;
+                case "sep": return 9;
+                case "oct": return 10;
+                case "nov": return 11;
+                default: return 12;
+            }
+        }
+        if (number != null) {
+            int month = Integer.parseInt(number);
+            if (month >= 1 && month <= 12) {
+                return month;
+            }
+        }
+        return defaultMonth;
+    }
+}
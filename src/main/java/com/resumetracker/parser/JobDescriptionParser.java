@@ -12,6 +12,18 @@ import java.util.regex.Pattern;
  * Extracts job title, required skills, and experience requirements.
  */
 public class JobDescriptionParser {
+    private static final String SKILLS_SECTION = "skills";
+    private static final String RESPONSIBILITIES_SECTION = "responsibilities";
+
+    // Job description headers may carry their content inline, e.g. "Required Skills: Java, SQL"
+    private static final SectionSegmenter SEGMENTER = new SectionSegmenter(true)
+        .addSection(SKILLS_SECTION, "skill", "skills", "required skill", "required skills",
+            "technical skill", "technical skills", "requirement", "requirements",
+            "qualification", "qualifications")
+        .addSection(RESPONSIBILITIES_SECTION, "responsibilities", "duties", "you will", "what you'll do")
+        .addBoundaries("job title", "position", "role", "education", "experience", "work",
+            "professional", "employment", "certification", "certifications", "project", "projects",
+            "award", "awards", "reference", "references", "summary", "objective", "about", "description");
 
     /**
      * Parses a job description text and creates a JobDescription object.
@@ -28,7 +40,7 @@ public class JobDescriptionParser {
         jobDesc.setJobTitle(jobTitle);
 
         // Extract required skills
-        List<String> skills = extractRequiredSkills(text);
+        List<String> skills = extractRequiredSkills(SEGMENTER.segment(text));
         jobDesc.setRequiredSkills(skills);
 
         // Extract years of experience
@@ -46,13 +58,8 @@ public class JobDescriptionParser {
         String[] lines = text.split("\n");
         
         // Look for explicit job title markers
-        Pattern titlePattern = Pattern.compile(
-            "(?i)(?:job\\s+title|position|role)\\s*[:;]\\s*(.+)",
-            Pattern.CASE_INSENSITIVE
-        );
-
         for (String line : lines) {
-            Matcher matcher = titlePattern.matcher(line.trim());
+            Matcher matcher = ParserPatterns.JOB_TITLE_MARKER.matcher(line.trim());
             if (matcher.find()) {
                 return matcher.group(1).trim();
             }
@@ -73,28 +80,23 @@ public class JobDescriptionParser {
      * Extracts required skills from the job description.
      * Looks for skills sections and parses skill lists.
      */
-    private List<String> extractRequiredSkills(String text) {
+    private List<String> extractRequiredSkills(SectionSegmenter.Sections sections) {
         List<String> skills = new ArrayList<>();
         
         // Find skills section
-        String skillsSection = extractSection(text, 
-            "(?:required\\s+)?skills?|technical\\s+skills?|requirements?|qualifications?");
+        String skillsSection = sections.get(SKILLS_SECTION);
 
         if (skillsSection != null && !skillsSection.isEmpty()) {
             // Split by common delimiters
-            String[] skillTokens = skillsSection.split("[,;•◦▪▫–\n\\|]+");
+            String[] skillTokens = ParserPatterns.JOB_SKILL_SEPARATORS.split(skillsSection);
             
             for (String skill : skillTokens) {
-                String trimmed = skill.trim()
-                    .replaceAll("(?i)^(?:required\\s+)?skills?\\s*[:;]?\\s*", "")
-                    .replaceAll("(?i)^(?:technical\\s+)?skills?\\s*[:;]?\\s*", "")
-                    .replaceAll("(?i)^requirements?\\s*[:;]?\\s*", "")
-                    .trim();
+                String trimmed = stripLabel(skill.trim());
                 
                 // Filter out noise and very short strings
                 if (trimmed.length() > 1 && 
-                    !trimmed.matches("^[\\d.\\-]+$") && 
-                    !trimmed.toLowerCase().matches("^(and|or|the|with|for|in|on|at)$")) {
+                    !ParserPatterns.NUMERIC_TOKEN.matcher(trimmed).matches() && 
+                    !ParserPatterns.STOP_WORD.matcher(trimmed).matches()) {
                     skills.add(trimmed);
                 }
             }
@@ -103,19 +105,31 @@ public class JobDescriptionParser {
         return skills;
     }
 
+    /**
+     * Removes a leading "Required Skills:", "Technical Skills:" or "Requirements:" label from a skill token.
+     * Each label pattern is only run when the token starts with a letter it could match.
+     */
+    private String stripLabel(String token) {
+        if (token.isEmpty()) {
+            return token;
+        }
+        char first = Character.toLowerCase(token.charAt(0));
+        if (first != 'r' && first != 's' && first != 't') {
+            return token;
+        }
+        String stripped = ParserPatterns.REQUIRED_SKILLS_LABEL.matcher(token).replaceFirst("");
+        stripped = ParserPatterns.TECHNICAL_SKILLS_LABEL.matcher(stripped).replaceFirst("");
+        stripped = ParserPatterns.REQUIREMENTS_LABEL.matcher(stripped).replaceFirst("");
+        return stripped.trim();
+    }
+
     /**
      * Extracts years of experience requirement from the job description.
      * Looks for patterns like "3+ years", "3-5 years", "3 years experience".
      */
     private int extractYearsOfExperience(String text) {
-        // Patterns to match experience requirements
-        Pattern[] patterns = {
-            Pattern.compile("(\\d+)\\+?\\s*(?:to|\\-)?\\s*\\d*\\s*years?\\s+(?:of\\s+)?experience", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("experience\\s*[:;]\\s*(\\d+)\\+?\\s*years?", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("(\\d+)\\+?\\s*years?", Pattern.CASE_INSENSITIVE)
-        };
-
-        for (Pattern pattern : patterns) {
+        // Patterns to match experience requirements, most specific first
+        for (Pattern pattern : ParserPatterns.YEARS_OF_EXPERIENCE) {
             Matcher matcher = pattern.matcher(text);
             if (matcher.find()) {
                 try {
@@ -129,46 +143,6 @@ public class JobDescriptionParser {
         return 0;
     }
 
-    /**
-     * Extracts a section from text based on a header pattern.
-     * 
-     * @param text The full text to search
-     * @param headerPattern Regex pattern for section headers
-     * @return The text content of the section
-     */
-    private String extractSection(String text, String headerPattern) {
-        // Create pattern to match the section header
-        Pattern pattern = Pattern.compile(
-            "(?i)(?:^|\\n)\\s*(" + headerPattern + ")\\s*[:;]?\\s*\\n?",
-            Pattern.MULTILINE | Pattern.CASE_INSENSITIVE
-        );
-        
-        Matcher matcher = pattern.matcher(text);
-        
-        if (matcher.find()) {
-            int sectionStart = matcher.end();
-            
-            // Find the next section header
-            Pattern nextSectionPattern = Pattern.compile(
-                "(?i)(?:\\n\\s*(?:job\\s+title|position|role|skills?|education|experience|work|" +
-                "professional|employment|certifications?|projects?|awards?|references?|" +
-                "summary|objective|responsibilities|duties|about|description)\\s*[:;]?\\s*\\n)",
-                Pattern.MULTILINE | Pattern.CASE_INSENSITIVE
-            );
-            
-            Matcher nextMatcher = nextSectionPattern.matcher(text);
-            
-            int sectionEnd = text.length();
-            if (nextMatcher.find(sectionStart)) {
-                sectionEnd = nextMatcher.start();
-            }
-            
-            return text.substring(sectionStart, sectionEnd).trim();
-        }
-        
-        return "";
-    }
-
     /**
      * Validates if a job description has minimum required information.
      * 
@@ -192,16 +166,15 @@ public class JobDescriptionParser {
     public List<String> extractResponsibilities(String text) {
         List<String> responsibilities = new ArrayList<>();
         
-        String respSection = extractSection(text, 
-            "responsibilities|duties|you\\s+will|what\\s+you['']ll\\s+do");
+        String respSection = SEGMENTER.segment(text).get(RESPONSIBILITIES_SECTION);
 
         if (respSection != null && !respSection.isEmpty()) {
             // Split by bullet points or newlines
-            String[] lines = respSection.split("\\n");
+            String[] lines = respSection.split("\n");
             
             for (String line : lines) {
-                String trimmed = line.trim()
-                    .replaceAll("^[•◦▪▫–\\-*+]+\\s*", "") // Remove bullet points
+                String trimmed = ParserPatterns.BULLET_PREFIX.matcher(line.trim())
+                    .replaceFirst("") // Remove bullet points
                     .trim();
                 
                 if (trimmed.length() > 10) {
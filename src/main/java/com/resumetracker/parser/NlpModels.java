@@ -0,0 +1,97 @@
+package com.resumetracker.parser;
+
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the OpenNLP models once per JVM and hands out per-thread model instances.
+ *
+ * TokenizerModel and TokenNameFinderModel are immutable and safe to share, but the
+ * TokenizerME/NameFinderME wrappers keep per-call state and are not thread-safe.
+ * Each thread therefore gets its own lightweight ME instance built from the shared model.
+ *
+ * Models should be placed in src/main/resources/models/
+ * Download models from: https://opennlp.sourceforge.net/models-1.5/
+ * Required models:
+ * - en-token.bin (tokenizer)
+ * - en-ner-person.bin (person name recognition)
+ */
+public final class NlpModels {
+    private static final String TOKENIZER_MODEL = "/models/en-token.bin";
+    private static final String PERSON_MODEL = "/models/en-ner-person.bin";
+
+    private static final TokenizerModel tokenizerModel = loadTokenizerModel();
+    private static final TokenNameFinderModel personModel = loadPersonModel();
+
+    private static final ThreadLocal<TokenizerME> tokenizers = ThreadLocal.withInitial(
+        () -> tokenizerModel != null ? new TokenizerME(tokenizerModel) : null);
+    private static final ThreadLocal<NameFinderME> personFinders = ThreadLocal.withInitial(
+        () -> personModel != null ? new NameFinderME(personModel) : null);
+
+    private NlpModels() {
+        // Static holder, no instances
+    }
+
+    /**
+     * Returns true if the tokenizer model was found on the classpath.
+     */
+    public static boolean hasTokenizer() {
+        return tokenizerModel != null;
+    }
+
+    /**
+     * Returns true if the person name finder model was found on the classpath.
+     */
+    public static boolean hasPersonFinder() {
+        return personModel != null;
+    }
+
+    /**
+     * Returns the calling thread's tokenizer, or null if the model is not available.
+     */
+    public static TokenizerME tokenizer() {
+        return tokenizers.get();
+    }
+
+    /**
+     * Returns the calling thread's person name finder, or null if the model is not available.
+     */
+    public static NameFinderME personFinder() {
+        return personFinders.get();
+    }
+
+    private static TokenizerModel loadTokenizerModel() {
+        try (InputStream stream = NlpModels.class.getResourceAsStream(TOKENIZER_MODEL)) {
+            if (stream == null) {
+                System.out.println("Tokenizer model not found. Using basic tokenization.");
+                return null;
+            }
+            TokenizerModel model = new TokenizerModel(stream);
+            System.out.println("Tokenizer model loaded successfully.");
+            return model;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load tokenizer model: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static TokenNameFinderModel loadPersonModel() {
+        try (InputStream stream = NlpModels.class.getResourceAsStream(PERSON_MODEL)) {
+            if (stream == null) {
+                System.out.println("Person NER model not found. Using basic name extraction.");
+                return null;
+            }
+            TokenNameFinderModel model = new TokenNameFinderModel(stream);
+            System.out.println("Person NER model loaded successfully.");
+            return model;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load person NER model: " + e.getMessage());
+            return null;
+        }
+    }
+}
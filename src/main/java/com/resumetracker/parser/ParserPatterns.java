@@ -0,0 +1,96 @@
+package com.resumetracker.parser;
+
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled regular expressions used by the resume and job description parsers.
+ *
+ * Compiling a Pattern is far more expensive than running it, and String.matches/split/replaceAll
+ * compile a new Pattern on every call. Pattern objects are immutable and thread-safe, so they are
+ * compiled once here and shared by all parser instances and threads.
+ */
+final class ParserPatterns {
+
+    // Resume contact details: user@domain.tld
+    static final Pattern EMAIL = Pattern.compile(
+        "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    // Phone formats: (123) 456-7890, 123-456-7890, 123.456.7890, +1-123-456-7890, etc.
+    static final Pattern PHONE = Pattern.compile(
+        "(?:\\+\\d{1,3}[-.\\s]?)?(?:\\(\\d{3}\\)|\\d{3})[-.\\s]?\\d{3}[-.\\s]?\\d{4}"
+    );
+
+    // Loose phone check used to skip contact lines when looking for the name
+    static final Pattern PHONE_LIKE = Pattern.compile("\\d{3}.*\\d{3}.*\\d{4}");
+
+    // Job title words that mean an NER "name" is really a headline
+    static final Pattern JOB_TITLE_WORD = Pattern.compile(
+        "Developer|Engineer|Manager|Analyst|Designer|Architect"
+    );
+
+    // A single word of a person's name: letters plus hyphens and apostrophes
+    static final Pattern NAME_WORD = Pattern.compile("[A-Za-z][A-Za-z'-]*");
+
+    static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Tokens made only of digits, dots and dashes (years, version numbers, stray bullets)
+    static final Pattern NUMERIC_TOKEN = Pattern.compile("[\\d.\\-]+");
+
+    // A four digit number, usually a year
+    static final Pattern YEAR = Pattern.compile("\\d{4}");
+
+    static final Pattern DEGREE_KEYWORD = Pattern.compile(
+        "bachelor|master|phd|degree|university|college|diploma",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    // Separators between skills in a resume skills section
+    static final Pattern RESUME_SKILL_SEPARATORS = Pattern.compile("[,;•◦▪▫–\\n]+");
+
+    // Separators between skills in a job description skills section (also allows '|')
+    static final Pattern JOB_SKILL_SEPARATORS = Pattern.compile("[,;•◦▪▫–\n\\|]+");
+
+    // Header labels left at the start of a job skill token, e.g. "Required Skills: Java"
+    static final Pattern REQUIRED_SKILLS_LABEL = Pattern.compile(
+        "^(?:required\\s+)?skills?\\s*[:;]?\\s*", Pattern.CASE_INSENSITIVE);
+    static final Pattern TECHNICAL_SKILLS_LABEL = Pattern.compile(
+        "^(?:technical\\s+)?skills?\\s*[:;]?\\s*", Pattern.CASE_INSENSITIVE);
+    static final Pattern REQUIREMENTS_LABEL = Pattern.compile(
+        "^requirements?\\s*[:;]?\\s*", Pattern.CASE_INSENSITIVE);
+
+    // Filler words that survive splitting a skill list, e.g. "Java, Spring and Hibernate"
+    static final Pattern STOP_WORD = Pattern.compile(
+        "and|or|the|with|for|in|on|at", Pattern.CASE_INSENSITIVE);
+
+    static final Pattern JOB_TITLE_MARKER = Pattern.compile(
+        "(?:job\\s+title|position|role)\\s*[:;]\\s*(.+)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    // Experience requirements, most specific first: "3-5 years of experience", "Experience: 3 years", "3+ years"
+    static final Pattern[] YEARS_OF_EXPERIENCE = {
+        Pattern.compile("(\\d+)\\+?\\s*(?:to|\\-)?\\s*\\d*\\s*years?\\s+(?:of\\s+)?experience", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("experience\\s*[:;]\\s*(\\d+)\\+?\\s*years?", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("(\\d+)\\+?\\s*years?", Pattern.CASE_INSENSITIVE)
+    };
+
+    // Employment date ranges: "Jan 2019 - Mar 2021", "06/2018 to present", "2015 – 2019".
+    // Groups: start month name, start month number, start year, end month name, end month number,
+    // end year, or "present" for ongoing positions
+    private static final String MONTH_NAME =
+        "(jan(?:uary)?|feb(?:ruary)?|mar(?:ch)?|apr(?:il)?|may|june?|july?|aug(?:ust)?|" +
+        "sep(?:t(?:ember)?)?|oct(?:ober)?|nov(?:ember)?|dec(?:ember)?)\\.?";
+    static final Pattern DATE_RANGE = Pattern.compile(
+        "\\b(?:" + MONTH_NAME + ",?\\s+|(\\d{1,2})[/.-])?((?:19|20)\\d{2})\\s*(?:-|–|—|to|until)\\s*" +
+        "(?:(?:" + MONTH_NAME + ",?\\s+|(\\d{1,2})[/.-])?((?:19|20)\\d{2})\\b|(present|current|now|today|date))",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    static final Pattern BULLET_PREFIX = Pattern.compile("^[•◦▪▫–\\-*+]+\\s*");
+
+    private ParserPatterns() {
+        // Constants only
+    }
+}
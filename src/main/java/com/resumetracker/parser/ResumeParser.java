@@ -2,10 +2,6 @@ package com.resumetracker.parser;
 
 import com.resumetracker.model.Candidate;
 import opennlp.tools.namefind.NameFinderME;
-import opennlp.tools.namefind.TokenNameFinderModel;
-import opennlp.tools.tokenize.Tokenizer;
-import opennlp.tools.tokenize.TokenizerME;
-import opennlp.tools.tokenize.TokenizerModel;
 import opennlp.tools.util.Span;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
@@ -15,86 +11,89 @@ import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Parses resume files (PDF and DOCX) and extracts candidate information.
  * Uses Apache PDFBox for PDF parsing, Apache POI for DOCX parsing,
  * and Apache OpenNLP for Natural Language Processing.
+ *
+ * A single instance is safe to share between threads: it holds no per-document state,
+ * and the non-thread-safe OpenNLP classes are obtained per thread from NlpModels.
  */
 public class ResumeParser {
-    private Tokenizer tokenizer;
-    private NameFinderME personFinder;
-    private boolean nlpModelsLoaded = false;
+    private static final String SKILLS_SECTION = "skills";
+    private static final String EDUCATION_SECTION = "education";
+    private static final String EXPERIENCE_SECTION = "experience";
+
+    // Recognised resume headers; any of them ends the section before it
+    private static final SectionSegmenter SEGMENTER = new SectionSegmenter(false)
+        .addSection(SKILLS_SECTION, "skill", "skills", "technical skill", "technical skills",
+            "key skill", "key skills")
+        .addSection(EDUCATION_SECTION, "education", "academic background", "qualification", "qualifications")
+        .addSection(EXPERIENCE_SECTION, "work experience", "professional experience",
+            "employment history", "experience")
+        .addBoundaries("work", "professional", "employment", "certification", "certifications",
+            "project", "projects", "award", "awards", "reference", "references", "summary", "objective");
+
+    private static final StreamingDocxExtractor DOCX_EXTRACTOR = new StreamingDocxExtractor();
+
+    private final boolean nlpModelsLoaded;
+    private final StreamingPdfExtractor pdfExtractor;
 
     /**
-     * Constructor that attempts to load OpenNLP models.
+     * Constructor. The OpenNLP models are shared across all parsers (see NlpModels),
+     * so creating additional parsers is cheap and does not reload anything.
+     * PDFs are loaded fully into memory.
      */
     public ResumeParser() {
-        try {
-            loadNLPModels();
-        } catch (Exception e) {
-            System.err.println("Warning: Could not load NLP models. NLP features will be limited.");
-            System.err.println("Error: " + e.getMessage());
-            nlpModelsLoaded = false;
-        }
+        this(null);
     }
 
     /**
-     * Loads OpenNLP models for tokenization and named entity recognition.
-     * Models should be placed in src/main/resources/models/
-     * 
-     * Download models from: https://opennlp.sourceforge.net/models-1.5/
-     * Required models:
-     * - en-token.bin (tokenizer)
-     * - en-ner-person.bin (person name recognition)
+     * Constructor that reads PDFs through a memory-bounded streaming extractor.
+     * @param pdfExtractor The extractor to use for PDFs, or null to load PDFs fully into memory
      */
-    private void loadNLPModels() throws IOException {
-        try {
-            // Load tokenizer model
-            InputStream tokenizerStream = getClass().getResourceAsStream("/models/en-token.bin");
-            if (tokenizerStream != null) {
-                TokenizerModel tokenizerModel = new TokenizerModel(tokenizerStream);
-                tokenizer = new TokenizerME(tokenizerModel);
-                tokenizerStream.close();
-                System.out.println("Tokenizer model loaded successfully.");
-            } else {
-                System.out.println("Tokenizer model not found. Using basic tokenization.");
-            }
-
-            // Load person name finder model
-            InputStream personStream = getClass().getResourceAsStream("/models/en-ner-person.bin");
-            if (personStream != null) {
-                TokenNameFinderModel personModel = new TokenNameFinderModel(personStream);
-                personFinder = new NameFinderME(personModel);
-                personStream.close();
-                nlpModelsLoaded = true;
-                System.out.println("Person NER model loaded successfully.");
-            } else {
-                System.out.println("Person NER model not found. Using basic name extraction.");
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading NLP models: " + e.getMessage());
-            throw e;
-        }
+    public ResumeParser(StreamingPdfExtractor pdfExtractor) {
+        // Missing models are reported once by NlpModels when it first loads
+        this.nlpModelsLoaded = NlpModels.hasTokenizer() && NlpModels.hasPersonFinder();
+        this.pdfExtractor = pdfExtractor;
     }
 
     /**
      * Extracts text from a PDF file using Apache PDFBox.
+     * If a streaming extractor is configured, pages are read one at a time and, if it stops
+     * early, reading stops once the skills, education and experience sections have all been seen.
      * @param file The PDF file to extract text from
      * @return The extracted text as a string
      */
     public String extractTextFromPDF(File file) throws IOException {
+        return readPdf(file).getText();
+    }
+
+    /**
+     * Helper method to extract PDF text, noting whether the whole document was read.
+     */
+    private StreamingPdfExtractor.Result readPdf(File file) throws IOException {
+        if (pdfExtractor != null) {
+            SectionSegmenter.Scan scan = SEGMENTER.newScan();
+            try {
+                return pdfExtractor.extract(file, page -> hasKeySections(scan.append(page)));
+            } catch (IOException e) {
+                System.err.println("Error extracting text from PDF: " + e.getMessage());
+                throw e;
+            }
+        }
+
         try (PDDocument document = PDDocument.load(file)) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(document);
             System.out.println("Extracted text from PDF: " + file.getName());
-            return text;
+            return new StreamingPdfExtractor.Result(text, true);
         } catch (IOException e) {
             System.err.println("Error extracting text from PDF: " + e.getMessage());
             throw e;
@@ -102,11 +101,30 @@ public class ResumeParser {
     }
 
     /**
-     * Extracts text from a DOCX file using Apache POI.
+     * Extracts text from a DOCX file.
+     * Streams the document XML directly from the zip, and falls back to Apache POI
+     * if the streaming extractor cannot read the file.
      * @param file The DOCX file to extract text from
      * @return The extracted text as a string
      */
     public String extractTextFromDocx(File file) throws IOException {
+        try {
+            String text = DOCX_EXTRACTOR.extract(file);
+            System.out.println("Extracted text from DOCX: " + file.getName());
+            return text;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Streaming DOCX extraction failed, falling back to POI: " + e.getMessage());
+            return extractTextFromDocxWithPoi(file);
+        }
+    }
+
+    /**
+     * Extracts text from a DOCX file using Apache POI.
+     * Builds the full document model, so it is slower but more forgiving of unusual packages.
+     * @param file The DOCX file to extract text from
+     * @return The extracted text as a string
+     */
+    private String extractTextFromDocxWithPoi(File file) throws IOException {
         try (FileInputStream fis = new FileInputStream(file);
              XWPFDocument document = new XWPFDocument(fis);
              XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
@@ -135,6 +153,7 @@ public class ResumeParser {
             System.err.println("Warning: Empty text provided for parsing.");
             return candidate;
         }
+        candidate.setResumeText(rawText);
 
         // Extract name
         String name = extractName(rawText);
@@ -148,22 +167,42 @@ public class ResumeParser {
         String phone = extractPhone(rawText);
         candidate.setPhone(phone);
 
+        // Locate all sections in one pass
+        SectionSegmenter.Sections sections = SEGMENTER.segment(rawText);
+
         // Extract skills
-        List<String> skills = extractSkills(rawText);
+        List<String> skills = extractSkills(sections);
         candidate.setSkills(skills);
 
         // Extract education
-        List<String> education = extractEducation(rawText);
+        List<String> education = extractEducation(sections);
         candidate.setEducation(education);
 
         // Extract work experience
-        List<String> experience = extractWorkExperience(rawText);
+        List<String> experience = extractWorkExperience(sections);
         candidate.setWorkExperience(experience);
 
+        // Compute years once here so matching only compares numbers; an ongoing range is kept
+        // as its start month, so its years keep counting after parsing
+        ExperienceCalculator.Experience experienceYears =
+            ExperienceCalculator.calculate(sections.get(EXPERIENCE_SECTION), YearMonth.now());
+        candidate.setExperience(experienceYears.finishedYears, experienceYears.ongoingSince);
+
         System.out.println("Parsed candidate: " + candidate.getName());
         return candidate;
     }
 
+    /**
+     * Returns true once the pages scanned so far contain every section the parser reads, each
+     * followed by another header so later pages cannot add to it. Contact details and the name
+     * come from the top of the first page, which is always read.
+     */
+    private static boolean hasKeySections(SectionSegmenter.Scan scan) {
+        return scan.isClosed(SKILLS_SECTION) &&
+               scan.isClosed(EDUCATION_SECTION) &&
+               scan.isClosed(EXPERIENCE_SECTION);
+    }
+
     /**
      * Extracts the candidate's name using OpenNLP NER.
      * Falls back to heuristics if NLP models are not available.
@@ -179,11 +218,14 @@ public class ResumeParser {
         }
         
         // If fallback fails, try NLP on first 500 characters only
-        if (nlpModelsLoaded && tokenizer != null && personFinder != null) {
+        if (nlpModelsLoaded) {
             // Only search in the first 500 characters (header area)
             String headerText = text.substring(0, Math.min(500, text.length()));
-            String[] tokens = tokenizer.tokenize(headerText);
+            String[] tokens = NlpModels.tokenizer().tokenize(headerText);
+            NameFinderME personFinder = NlpModels.personFinder();
             Span[] nameSpans = personFinder.find(tokens);
+            // Each resume is an independent document; don't let one bias the next
+            personFinder.clearAdaptiveData();
             
             if (nameSpans.length > 0) {
                 // Return the first person name found in header
@@ -194,7 +236,7 @@ public class ResumeParser {
                 String nlpName = name.toString().trim();
                 
                 // Validate it's not a common job title word
-                if (!nlpName.matches(".*(Developer|Engineer|Manager|Analyst|Designer|Architect).*")) {
+                if (!ParserPatterns.JOB_TITLE_WORD.matcher(nlpName).find()) {
                     return nlpName;
                 }
             }
@@ -207,24 +249,24 @@ public class ResumeParser {
      * Fallback method to extract name from first few lines.
      */
     private String extractNameFallback(String text) {
-        // Fallback: Assume name is in the first few lines
-        String[] lines = text.split("\n");
+        // Fallback: Assume name is in the first few lines (only split off the first five)
+        String[] lines = text.split("\n", 6);
         for (int i = 0; i < Math.min(5, lines.length); i++) {
             String line = lines[i].trim();
             
             // Skip empty lines and lines with email/phone patterns
-            if (line.isEmpty() || line.contains("@") || line.matches(".*\\d{3}.*\\d{3}.*\\d{4}.*")) {
+            if (line.isEmpty() || line.contains("@") || ParserPatterns.PHONE_LIKE.matcher(line).find()) {
                 continue;
             }
             
             // Look for a line with 2-4 words (typical name pattern)
             // Accept various capitalization: "John Doe", "JOHN DOE", "John DOE"
-            String[] words = line.split("\\s+");
+            String[] words = ParserPatterns.WHITESPACE.split(line);
             if (words.length >= 2 && words.length <= 4) {
                 // Check if it looks like a name (letters only, no special chars except hyphens and apostrophes)
                 boolean looksLikeName = true;
                 for (String word : words) {
-                    if (!word.matches("[A-Za-z][A-Za-z'-]*")) {
+                    if (!ParserPatterns.NAME_WORD.matcher(word).matches()) {
                         looksLikeName = false;
                         break;
                     }
@@ -243,11 +285,7 @@ public class ResumeParser {
      * Extracts email address using regex pattern.
      */
     private String extractEmail(String text) {
-        Pattern emailPattern = Pattern.compile(
-            "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
-            Pattern.CASE_INSENSITIVE
-        );
-        Matcher matcher = emailPattern.matcher(text);
+        Matcher matcher = ParserPatterns.EMAIL.matcher(text);
         
         if (matcher.find()) {
             return matcher.group();
@@ -262,10 +300,7 @@ public class ResumeParser {
      */
     private String extractPhone(String text) {
         // Pattern matches various phone formats: (123) 456-7890, 123-456-7890, 123.456.7890, etc.
-        Pattern phonePattern = Pattern.compile(
-            "(?:\\+\\d{1,3}[-.\\s]?)?(?:\\(\\d{3}\\)|\\d{3})[-.\\s]?\\d{3}[-.\\s]?\\d{4}"
-        );
-        Matcher matcher = phonePattern.matcher(text);
+        Matcher matcher = ParserPatterns.PHONE.matcher(text);
         
         if (matcher.find()) {
             return matcher.group();
@@ -278,20 +313,20 @@ public class ResumeParser {
      * Extracts skills using keyword-based sectioning.
      * Looks for "Skills" section and parses the content.
      */
-    private List<String> extractSkills(String text) {
+    private List<String> extractSkills(SectionSegmenter.Sections sections) {
         List<String> skills = new ArrayList<>();
         
         // Find the Skills section
-        String skillsSection = extractSection(text, "SKILLS?|TECHNICAL\\s+SKILLS?|KEY\\s+SKILLS?");
+        String skillsSection = sections.get(SKILLS_SECTION);
         
         if (skillsSection != null && !skillsSection.isEmpty()) {
             // Split by common separators: comma, semicolon, bullet points, newlines
-            String[] skillTokens = skillsSection.split("[,;•◦▪▫–\\n]+");
+            String[] skillTokens = ParserPatterns.RESUME_SKILL_SEPARATORS.split(skillsSection);
             
             for (String skill : skillTokens) {
                 String trimmedSkill = skill.trim();
                 // Filter out very short strings and headers
-                if (trimmedSkill.length() > 1 && !trimmedSkill.matches("^[\\d.\\-]+$")) {
+                if (trimmedSkill.length() > 1 && !ParserPatterns.NUMERIC_TOKEN.matcher(trimmedSkill).matches()) {
                     skills.add(trimmedSkill);
                 }
             }
@@ -303,10 +338,10 @@ public class ResumeParser {
     /**
      * Extracts education information using keyword-based sectioning.
      */
-    private List<String> extractEducation(String text) {
+    private List<String> extractEducation(SectionSegmenter.Sections sections) {
         List<String> education = new ArrayList<>();
         
-        String educationSection = extractSection(text, "EDUCATION|ACADEMIC\\s+BACKGROUND|QUALIFICATIONS?");
+        String educationSection = sections.get(EDUCATION_SECTION);
         
         if (educationSection != null && !educationSection.isEmpty()) {
             // Split by newlines and filter meaningful entries
@@ -316,8 +351,8 @@ public class ResumeParser {
                 String trimmedLine = line.trim();
                 // Look for degree keywords or university patterns
                 if (trimmedLine.length() > 10 && 
-                    (trimmedLine.matches(".*(?i)(bachelor|master|phd|degree|university|college|diploma).*") ||
-                     trimmedLine.matches(".*\\d{4}.*"))) { // Contains a year
+                    (ParserPatterns.DEGREE_KEYWORD.matcher(trimmedLine).find() ||
+                     ParserPatterns.YEAR.matcher(trimmedLine).find())) { // Contains a year
                     education.add(trimmedLine);
                 }
             }
@@ -329,11 +364,10 @@ public class ResumeParser {
     /**
      * Extracts work experience using keyword-based sectioning.
      */
-    private List<String> extractWorkExperience(String text) {
+    private List<String> extractWorkExperience(SectionSegmenter.Sections sections) {
         List<String> experience = new ArrayList<>();
         
-        String experienceSection = extractSection(text, 
-            "WORK\\s+EXPERIENCE|PROFESSIONAL\\s+EXPERIENCE|EMPLOYMENT\\s+HISTORY|EXPERIENCE");
+        String experienceSection = sections.get(EXPERIENCE_SECTION);
         
         if (experienceSection != null && !experienceSection.isEmpty()) {
             // Split by newlines and look for job entries
@@ -344,7 +378,7 @@ public class ResumeParser {
                 String trimmedLine = line.trim();
                 
                 // Detect potential job title lines (often contain years or company indicators)
-                if (trimmedLine.matches(".*\\d{4}.*") || trimmedLine.length() > 20) {
+                if (trimmedLine.length() > 20 || ParserPatterns.YEAR.matcher(trimmedLine).find()) {
                     if (currentEntry.length() > 0) {
                         experience.add(currentEntry.toString().trim());
                         currentEntry = new StringBuilder();
@@ -364,42 +398,6 @@ public class ResumeParser {
         return experience;
     }
 
-    /**
-     * Helper method to extract a section from text based on a header pattern.
-     * @param text The full text to search
-     * @param headerPattern Regex pattern for section headers
-     * @return The text content of the section
-     */
-    private String extractSection(String text, String headerPattern) {
-        // Create pattern to match the section header
-        Pattern pattern = Pattern.compile(
-            "(?i)(?:^|\\n)\\s*(" + headerPattern + ")\\s*:?\\s*\\n",
-            Pattern.MULTILINE
-        );
-        Matcher matcher = pattern.matcher(text);
-        
-        if (matcher.find()) {
-            int sectionStart = matcher.end();
-            
-            // Find the next section header (common resume section keywords)
-            Pattern nextSectionPattern = Pattern.compile(
-                "(?i)(?:\\n\\s*(?:SKILLS?|EDUCATION|EXPERIENCE|WORK|PROFESSIONAL|EMPLOYMENT|" +
-                "CERTIFICATIONS?|PROJECTS?|AWARDS?|REFERENCES?|SUMMARY|OBJECTIVE)\\s*:?\\s*\\n)",
-                Pattern.MULTILINE
-            );
-            Matcher nextMatcher = nextSectionPattern.matcher(text);
-            
-            int sectionEnd = text.length();
-            if (nextMatcher.find(sectionStart)) {
-                sectionEnd = nextMatcher.start();
-            }
-            
-            return text.substring(sectionStart, sectionEnd).trim();
-        }
-        
-        return "";
-    }
-
     /**
      * Parses a resume file and returns a Candidate object.
      * Automatically detects file type based on extension.
@@ -410,9 +408,12 @@ public class ResumeParser {
     public Candidate parseFile(File file) throws IOException {
         String fileName = file.getName().toLowerCase();
         String rawText;
+        boolean completeText = true;
 
         if (fileName.endsWith(".pdf")) {
-            rawText = extractTextFromPDF(file);
+            StreamingPdfExtractor.Result pdf = readPdf(file);
+            rawText = pdf.getText();
+            completeText = pdf.isComplete();
         } else if (fileName.endsWith(".docx")) {
             rawText = extractTextFromDocx(file);
         } else if (fileName.endsWith(".txt")) {
@@ -425,6 +426,11 @@ public class ResumeParser {
         }
 
         System.out.println("Processing file: " + file.getName());
-        return parse(rawText);
+        Candidate candidate = parse(rawText);
+        if (!completeText) {
+            // Partial text would be stored, hashed for near-duplicates and indexed as the whole resume
+            candidate.setResumeText(null);
+        }
+        return candidate;
     }
 }
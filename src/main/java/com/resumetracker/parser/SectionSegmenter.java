@@ -0,0 +1,267 @@
+package com.resumetracker.parser;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits a document into named sections in a single pass over its lines.
+ *
+ * A line is treated as a section header when its text (ignoring case, extra whitespace
+ * and a trailing colon) is one of the registered header names. Each section runs from the
+ * end of its header line to the start of the next recognised header, so every extractor
+ * can read its section in O(1) instead of rescanning the whole text with regexes.
+ *
+ * Header names registered without a section name only act as boundaries.
+ *
+ * Text that arrives in chunks, e.g. one PDF page at a time, can be scanned incrementally with
+ * newScan(), which only looks at each chunk once.
+ */
+public class SectionSegmenter {
+    // Lines longer than this are body text, never headers; skipping them avoids normalizing every line
+    private static final int MAX_HEADER_LENGTH = 60;
+
+    private final Map<String, String> headers = new HashMap<>();
+    private final boolean allowInlineContent;
+
+    /**
+     * @param allowInlineContent If true, a header may be followed by ':' or ';' and content on
+     *                           the same line (e.g. "Required Skills: Java, SQL"); the section
+     *                           then starts right after the separator.
+     */
+    public SectionSegmenter(boolean allowInlineContent) {
+        this.allowInlineContent = allowInlineContent;
+    }
+
+    /**
+     * Registers header names that start the given section.
+     * Should only be called while setting up the segmenter, before it is shared.
+     *
+     * @param section The section name used to look the section up later
+     * @param headerNames Header texts that introduce this section
+     * @return this segmenter, for chaining
+     */
+    public SectionSegmenter addSection(String section, String... headerNames) {
+        for (String headerName : headerNames) {
+            headers.put(normalizeHeader(headerName), section);
+        }
+        return this;
+    }
+
+    /**
+     * Registers header names that end the preceding section without starting a tracked one.
+     * @return this segmenter, for chaining
+     */
+    public SectionSegmenter addBoundaries(String... headerNames) {
+        for (String headerName : headerNames) {
+            headers.putIfAbsent(normalizeHeader(headerName), "");
+        }
+        return this;
+    }
+
+    /**
+     * Walks the text once and records the position of every recognised header.
+     * When a section header appears more than once, the first occurrence wins.
+     *
+     * @param text The full document text
+     * @return The sections found in the text
+     */
+    public Sections segment(String text) {
+        Map<String, int[]> found = new HashMap<>();
+        int[] open = null;
+        int lineStart = 0;
+        int length = text.length();
+
+        while (lineStart < length) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+
+            // With inline content allowed, only the text before the first ':' or ';' can be a header
+            int headerEnd = allowInlineContent ? findSeparator(text, lineStart, lineEnd) : lineEnd;
+            String section = headerEnd - lineStart <= MAX_HEADER_LENGTH
+                ? lookupHeader(text.substring(lineStart, headerEnd))
+                : null;
+
+            if (section != null) {
+                // Any recognised header closes the section that is currently open
+                if (open != null) {
+                    open[1] = lineStart;
+                    open = null;
+                }
+                if (!section.isEmpty() && !found.containsKey(section)) {
+                    int contentStart = headerEnd < lineEnd ? headerEnd + 1 : Math.min(lineEnd + 1, length);
+                    open = new int[] {contentStart, length};
+                    found.put(section, open);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        return new Sections(text, found);
+    }
+
+    /**
+     * Starts an incremental scan that only tracks which sections have been closed by a later header.
+     * Each appended chunk is scanned once, so checking after every chunk costs time proportional
+     * to the chunk rather than to all the text so far.
+     */
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    /**
+     * Returns the offset of the first ':' or ';' in the line, or lineEnd if there is none.
+     */
+    private static int findSeparator(CharSequence text, int lineStart, int lineEnd) {
+        for (int i = lineStart; i < lineEnd; i++) {
+            char c = text.charAt(i);
+            if (c == ':' || c == ';') {
+                return i;
+            }
+        }
+        return lineEnd;
+    }
+
+    /**
+     * Returns the section a header line introduces ("" for boundaries), or null if the line is not a header.
+     */
+    private String lookupHeader(String line) {
+        String candidate = normalizeHeader(line);
+        if (candidate.endsWith(":")) {
+            candidate = candidate.substring(0, candidate.length() - 1).trim();
+        }
+        if (candidate.isEmpty()) {
+            return null;
+        }
+        return headers.get(candidate);
+    }
+
+    /**
+     * Lowercases a header and collapses runs of whitespace so "TECHNICAL   SKILLS" matches "technical skills".
+     */
+    private static String normalizeHeader(String header) {
+        StringBuilder normalized = new StringBuilder(header.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c == '’' ? '\'' : c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * An incremental scan over text appended chunk by chunk. Applies the same rules as segment():
+     * any recognised header closes the open section, and only the first occurrence of a section counts.
+     * Not thread-safe; use one scan per document.
+     */
+    public final class Scan {
+        private final Set<String> found = new HashSet<>();
+        private final Set<String> closed = new HashSet<>();
+        // Start of a line split across chunks
+        private final StringBuilder partialLine = new StringBuilder();
+        private String open;
+
+        private Scan() {
+        }
+
+        /**
+         * Scans the next chunk of text. A line is only scanned once its line break has been appended.
+         * @return this scan, for chaining
+         */
+        public Scan append(String chunk) {
+            int lineStart = 0;
+            int lineEnd;
+            while ((lineEnd = chunk.indexOf('\n', lineStart)) >= 0) {
+                if (partialLine.length() > 0) {
+                    partialLine.append(chunk, lineStart, lineEnd);
+                    scanLine(partialLine, 0, partialLine.length());
+                    partialLine.setLength(0);
+                } else {
+                    scanLine(chunk, lineStart, lineEnd);
+                }
+                lineStart = lineEnd + 1;
+            }
+            if (lineStart < chunk.length() && partialLine.length() <= MAX_HEADER_LENGTH) {
+                partialLine.append(chunk, lineStart, chunk.length());
+            }
+            return this;
+        }
+
+        /**
+         * Returns true if the section was found and another header has followed it.
+         */
+        public boolean isClosed(String section) {
+            return closed.contains(section);
+        }
+
+        private void scanLine(CharSequence text, int lineStart, int lineEnd) {
+            int headerEnd = allowInlineContent ? findSeparator(text, lineStart, lineEnd) : lineEnd;
+            if (headerEnd - lineStart > MAX_HEADER_LENGTH) {
+                return;
+            }
+            String section = lookupHeader(text.subSequence(lineStart, headerEnd).toString());
+            if (section == null) {
+                return;
+            }
+            if (open != null) {
+                closed.add(open);
+                open = null;
+            }
+            if (!section.isEmpty() && found.add(section)) {
+                open = section;
+            }
+        }
+    }
+
+    /**
+     * The result of segmenting one document: section name to [start, end) offsets.
+     */
+    public static class Sections {
+        private final String text;
+        private final Map<String, int[]> bounds;
+
+        private Sections(String text, Map<String, int[]> bounds) {
+            this.text = text;
+            this.bounds = bounds;
+        }
+
+        /**
+         * Returns the trimmed content of a section, or an empty string if it was not found.
+         */
+        public String get(String section) {
+            int[] range = bounds.get(section);
+            if (range == null) {
+                return "";
+            }
+            return text.substring(range[0], range[1]).trim();
+        }
+
+        /**
+         * Returns true if the document contains a header for the section.
+         */
+        public boolean has(String section) {
+            return bounds.containsKey(section);
+        }
+
+        /**
+         * Returns true if the section was found and another header follows it,
+         * i.e. more text could not change its content.
+         */
+        public boolean isClosed(String section) {
+            int[] range = bounds.get(section);
+            return range != null && range[1] < text.length();
+        }
+    }
+}
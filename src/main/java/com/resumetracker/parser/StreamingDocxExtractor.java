@@ -0,0 +1,190 @@
+package com.resumetracker.parser;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts text from DOCX files by streaming the WordprocessingML parts with StAX.
+ *
+ * Building an XWPFDocument loads every part of the package (including embedded images)
+ * into a DOM before any text is read. This extractor opens the zip directly, reads only
+ * the header, body and footer XML parts, and appends text as it streams past, so memory
+ * use depends on the amount of text rather than on the file size.
+ */
+public class StreamingDocxExtractor {
+    private static final String WORDML_NAMESPACE = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String DOCUMENT_PART = "word/document.xml";
+
+    // StAX factories are not guaranteed to be thread-safe, so each thread configures its own
+    private static final ThreadLocal<XMLInputFactory> factories = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Resume files are untrusted input: never resolve DTDs or external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    });
+
+    /**
+     * Extracts the text of a DOCX file: headers first, then the body, then footers
+     * (the same order XWPFWordExtractor uses).
+     *
+     * @param file The DOCX file
+     * @return The document text, one line per paragraph
+     * @throws IOException if the file is not a readable DOCX package
+     */
+    public String extract(File file) throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        try (ZipFile zip = new ZipFile(file)) {
+            ZipEntry body = zip.getEntry(DOCUMENT_PART);
+            if (body == null) {
+                throw new IOException("Not a Word document (missing " + DOCUMENT_PART + "): " + file.getName());
+            }
+
+            List<ZipEntry> headers = new ArrayList<>();
+            List<ZipEntry> footers = new ArrayList<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (name.startsWith("word/header") && name.endsWith(".xml")) {
+                    headers.add(entry);
+                } else if (name.startsWith("word/footer") && name.endsWith(".xml")) {
+                    footers.add(entry);
+                }
+            }
+            Collections.sort(headers, (a, b) -> a.getName().compareTo(b.getName()));
+            Collections.sort(footers, (a, b) -> a.getName().compareTo(b.getName()));
+
+            for (ZipEntry header : headers) {
+                appendHeaderFooterText(zip, header, text);
+            }
+            appendPartText(zip, body, text);
+            for (ZipEntry footer : footers) {
+                appendHeaderFooterText(zip, footer, text);
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX XML in " + file.getName() + ": " + e.getMessage(), e);
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Appends a header or footer part, skipping it if it contains no text (like XWPFWordExtractor).
+     */
+    private void appendHeaderFooterText(ZipFile zip, ZipEntry part, StringBuilder text)
+            throws IOException, XMLStreamException {
+        StringBuilder partText = new StringBuilder();
+        appendPartText(zip, part, partText);
+        if (partText.toString().trim().length() > 0) {
+            text.append(partText);
+        }
+    }
+
+    /**
+     * Streams one WordprocessingML part, appending run text, tabs and line breaks.
+     * Table cells are separated by tabs and table rows end with a newline, as in XWPFWordExtractor.
+     */
+    private void appendPartText(ZipFile zip, ZipEntry part, StringBuilder text)
+            throws IOException, XMLStreamException {
+        try (InputStream in = zip.getInputStream(part)) {
+            XMLStreamReader reader = factories.get().createXMLStreamReader(in);
+            try {
+                // w:tab also appears in paragraph tab-stop definitions, so tabs and breaks only count inside runs
+                boolean inRun = false;
+                boolean inText = false;
+                int cellDepth = 0;
+                boolean firstCellInRow = true;
+                boolean cellHasParagraph = false;
+
+                while (reader.hasNext()) {
+                    int event = reader.next();
+
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (!WORDML_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            continue;
+                        }
+                        switch (reader.getLocalName()) {
+                            case "r":
+                                inRun = true;
+                                break;
+                            case "tr":
+                                firstCellInRow = true;
+                                break;
+                            case "tc":
+                                if (!firstCellInRow) {
+                                    text.append('\t');
+                                }
+                                firstCellInRow = false;
+                                cellHasParagraph = false;
+                                cellDepth++;
+                                break;
+                            case "p":
+                                // Paragraphs inside a cell are separated, not terminated, by newlines
+                                if (cellDepth > 0 && cellHasParagraph) {
+                                    text.append('\n');
+                                }
+                                break;
+                            case "t":
+                                inText = true;
+                                break;
+                            case "tab":
+                                if (inRun) {
+                                    text.append('\t');
+                                }
+                                break;
+                            case "br":
+                            case "cr":
+                                if (inRun) {
+                                    text.append('\n');
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (!WORDML_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            continue;
+                        }
+                        String localName = reader.getLocalName();
+                        if ("t".equals(localName)) {
+                            inText = false;
+                        } else if ("r".equals(localName)) {
+                            inRun = false;
+                        } else if ("p".equals(localName)) {
+                            if (cellDepth > 0) {
+                                cellHasParagraph = true;
+                            } else {
+                                text.append('\n');
+                            }
+                        } else if ("tc".equals(localName)) {
+                            cellDepth--;
+                        } else if ("tr".equals(localName) || "tbl".equals(localName)) {
+                            // Rows end with a newline and the table as a whole is followed by one
+                            text.append('\n');
+                        }
+                    } else if (inText && (event == XMLStreamConstants.CHARACTERS ||
+                                          event == XMLStreamConstants.CDATA ||
+                                          event == XMLStreamConstants.SPACE)) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.resumetracker.parser;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.function.Predicate;
+
+/**
+ * Extracts PDF text page by page with a bounded memory footprint.
+ *
+ * PDDocument.load(file) with default settings keeps the whole parsed document on the heap,
+ * which large scanned portfolios can exhaust during bulk loads. This extractor instead:
+ * - loads the document with a fixed main-memory budget and spills the rest to a temp file,
+ * - strips text one page at a time,
+ * - stops once the caller says it has seen enough, or once a character limit is reached.
+ *
+ * Text cut short either way is reported as incomplete, so callers can avoid storing or indexing
+ * it as if it were the whole resume. Early stopping is therefore off by default: ingestion hashes
+ * and indexes the full text for near-duplicate detection and text scoring.
+ */
+public class StreamingPdfExtractor {
+    public static final long DEFAULT_MAX_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CHARACTERS = 1_000_000;
+
+    private final long maxMainMemoryBytes;
+    private final int maxCharacters;
+    private final boolean stopEarly;
+
+    /**
+     * Creates an extractor with a 16 MB in-memory budget, a one million character limit
+     * and early stopping disabled.
+     */
+    public StreamingPdfExtractor() {
+        this(DEFAULT_MAX_MAIN_MEMORY_BYTES, DEFAULT_MAX_CHARACTERS, false);
+    }
+
+    /**
+     * Constructor with all settings.
+     * @param maxMainMemoryBytes Heap PDFBox may use for the parsed document before spilling to a temp file
+     * @param maxCharacters Extraction stops after the first page that takes the text past this length
+     * @param stopEarly If true, extraction stops as soon as the completion check passes
+     */
+    public StreamingPdfExtractor(long maxMainMemoryBytes, int maxCharacters, boolean stopEarly) {
+        if (maxMainMemoryBytes < 0 || maxCharacters < 1) {
+            throw new IllegalArgumentException("Memory budget must not be negative and character limit must be positive");
+        }
+        this.maxMainMemoryBytes = maxMainMemoryBytes;
+        this.maxCharacters = maxCharacters;
+        this.stopEarly = stopEarly;
+    }
+
+    /**
+     * Extracts text from the PDF one page at a time.
+     *
+     * @param file The PDF file to read
+     * @param isComplete Called with the text of each page as it is read; returning true ends
+     *                   extraction early (ignored when early stopping is disabled)
+     * @return The text of all pages read, and whether that is the whole document
+     */
+    public Result extract(File file, Predicate<String> isComplete) throws IOException {
+        MemoryUsageSetting memorySetting = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+
+        try (PDDocument document = PDDocument.load(file, memorySetting)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            StringWriter text = new StringWriter();
+            int pageCount = document.getNumberOfPages();
+            int pagesRead = 0;
+
+            for (int page = 1; page <= pageCount; page++) {
+                int pageStart = text.getBuffer().length();
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                stripper.writeText(document, text);
+                pagesRead = page;
+
+                if (page < pageCount && text.getBuffer().length() >= maxCharacters) {
+                    System.err.println("Warning: Character limit reached in PDF: " + file.getName());
+                    break;
+                }
+                if (stopEarly && page < pageCount && isComplete.test(text.getBuffer().substring(pageStart))) {
+                    break;
+                }
+            }
+
+            System.out.println("Extracted text from PDF: " + file.getName() +
+                " (" + pagesRead + " of " + pageCount + " pages)");
+            return new Result(text.toString(), pagesRead == pageCount);
+        }
+    }
+
+    public long getMaxMainMemoryBytes() {
+        return maxMainMemoryBytes;
+    }
+
+    public int getMaxCharacters() {
+        return maxCharacters;
+    }
+
+    public boolean isStopEarly() {
+        return stopEarly;
+    }
+
+    /**
+     * The text extracted from one PDF.
+     */
+    public static final class Result {
+        private final String text;
+        private final boolean complete;
+
+        Result(String text, boolean complete) {
+            this.text = text;
+            this.complete = complete;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Returns true if every page was read, false if extraction stopped early or at the character limit.
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+}
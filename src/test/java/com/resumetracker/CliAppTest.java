@@ -0,0 +1,75 @@
+package com.resumetracker;
+
+import com.resumetracker.database.DatabaseManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CliAppTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CliApp().parseArguments(new String[] {"--bogus"}));
+        assertThrows(IllegalArgumentException.class, () -> new CliApp().parseArguments(new String[] {"--job"}));
+        assertThrows(IllegalArgumentException.class, () -> new CliApp().parseArguments(new String[] {"--top", "0", "--all-jobs"}));
+    }
+
+    @Test
+    void hasNothingToDoWithoutIngestOrJobs() {
+        assertFalse(new CliApp().parseArguments(new String[0]));
+        assertFalse(new CliApp().parseArguments(new String[] {"--help"}));
+        assertFalse(new CliApp().parseArguments(new String[] {"--top", "5"}));
+        assertTrue(new CliApp().parseArguments(new String[] {"--all-jobs"}));
+    }
+
+    @Test
+    void quotesCsvFieldsOnlyWhenNeeded() {
+        assertEquals("", CliApp.csv(null));
+        assertEquals("Java", CliApp.csv("Java"));
+        assertEquals("\"Doe, Jane\"", CliApp.csv("Doe, Jane"));
+        assertEquals("\"say \"\"hi\"\"\"", CliApp.csv("say \"hi\""));
+    }
+
+    @Test
+    void ingestsAndMatchesToCsv() throws IOException {
+        Path resumes = Files.createDirectory(tempDir.resolve("resumes"));
+        write(resumes.resolve("jane.txt"), "Jane Doe\njane@example.com\n\nSkills\nJava, SQL\n");
+        write(resumes.resolve("john.txt"), "John Roe\njohn@example.com\n\nSkills\nCobol\n");
+        write(resumes.resolve("notes.md"), "Not a resume");
+        Path job = write(tempDir.resolve("job.txt"), "Job Title: Backend Engineer\nRequired Skills: Java, SQL\n");
+        Path csv = tempDir.resolve("out.csv");
+
+        DatabaseManager.getInstance().connect("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        CliApp app = new CliApp();
+        assertTrue(app.parseArguments(new String[] {
+            "--ingest", resumes.toString(), "--job", job.toString(), "--threshold", "50", "--csv", csv.toString()}));
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        // Closes the database when done
+        app.run(new PrintStream(stdout, true, StandardCharsets.UTF_8));
+
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size(), lines.toString());
+        assertTrue(lines.get(0).startsWith("job_title,rank,candidate_id"));
+        assertTrue(lines.get(1).startsWith("Backend Engineer,1,"), lines.get(1));
+        assertTrue(lines.get(1).contains("Jane Doe"), lines.get(1));
+        assertEquals(0, stdout.size());
+    }
+
+    private static Path write(Path path, String text) throws IOException {
+        return Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
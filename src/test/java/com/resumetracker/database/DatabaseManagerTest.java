@@ -0,0 +1,154 @@
+package com.resumetracker.database;
+
+import com.resumetracker.model.Candidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseManagerTest {
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager dbManager;
+
+    @BeforeEach
+    void setUp() {
+        dbManager = DatabaseManager.getInstance();
+        dbManager.connect("jdbc:sqlite:" + tempDir.resolve("test.db"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dbManager.close();
+    }
+
+    @Test
+    void indexesStoredContentHashes() {
+        Candidate hashed = candidate("Ada Lovelace", "java");
+        hashed.setContentHash("hash-1");
+        Candidate unhashed = candidate("Alan Turing", "python");
+        dbManager.insertCandidates(List.of(hashed, unhashed));
+
+        Map<String, Integer> index = dbManager.getContentHashIndex();
+
+        assertEquals(Map.of("hash-1", hashed.getId()), index);
+        assertEquals("Ada Lovelace", dbManager.getCandidateByContentHash("hash-1").getName());
+        assertNull(dbManager.getCandidateByContentHash("hash-2"));
+    }
+
+    @Test
+    void rejectsASecondCandidateWithTheSameContentHash() {
+        Candidate first = candidate("Ada Lovelace", "java");
+        first.setContentHash("hash-1");
+        Candidate second = candidate("Ada Lovelace", "java");
+        second.setContentHash("hash-1");
+
+        assertTrue(dbManager.insertCandidate(first) > 0);
+        assertEquals(-1, dbManager.insertCandidate(second));
+        assertEquals(1, dbManager.getAllCandidates().size());
+    }
+
+    @Test
+    void readsCandidatesByIdInChunks() {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            candidates.add(candidate("Candidate " + i, "java"));
+        }
+        dbManager.insertCandidates(candidates);
+        List<Integer> ids = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            ids.add(candidate.getId());
+        }
+        ids.add(999_999);
+
+        Map<Integer, Candidate> byId = dbManager.getCandidatesByIds(ids);
+
+        assertEquals(candidates.size(), byId.size());
+        assertEquals("Candidate 1100", byId.get(candidates.get(1100).getId()).getName());
+        assertTrue(dbManager.getCandidatesByIds(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void promotesTheEarliestNearDuplicateOfADeletedCandidate() {
+        Candidate original = candidate("Ada Lovelace", "java");
+        dbManager.insertCandidate(original);
+        Candidate firstCopy = candidate("Ada Lovelace", "java");
+        firstCopy.setDuplicateOf(original.getId());
+        Candidate secondCopy = candidate("Ada Lovelace", "java");
+        secondCopy.setDuplicateOf(original.getId());
+        dbManager.insertCandidates(List.of(firstCopy, secondCopy));
+        List<Integer> inserted = new ArrayList<>();
+        CandidateChangeListener listener = new CandidateChangeListener() {
+            @Override
+            public void candidatesInserted(List<Candidate> candidates) {
+                for (Candidate candidate : candidates) {
+                    inserted.add(candidate.getId());
+                }
+            }
+
+            @Override
+            public void candidateDeleted(int candidateId) {
+            }
+        };
+        dbManager.addCandidateListener(listener);
+        try {
+            assertEquals(1, dbManager.getAllCandidates().size());
+
+            assertTrue(dbManager.deleteCandidate(original.getId()));
+
+            assertEquals(List.of(firstCopy.getId()), inserted);
+            List<Candidate> originals = dbManager.getAllCandidates();
+            assertEquals(1, originals.size());
+            assertEquals(firstCopy.getId(), originals.get(0).getId());
+            assertFalse(originals.get(0).isNearDuplicate());
+            assertEquals(firstCopy.getId(), dbManager.getCandidateById(secondCopy.getId()).getDuplicateOf());
+        } finally {
+            dbManager.removeCandidateListener(listener);
+        }
+    }
+
+    @Test
+    void filtersByExperienceIncludingOngoingRanges() {
+        YearMonth now = YearMonth.now();
+        int threeYearsAgo = now.getYear() * 12 + now.getMonthValue() - 1 - 36;
+        Candidate senior = candidate("Senior", "java");
+        senior.setExperienceYears(5.0);
+        Candidate ongoing = candidate("Ongoing", "java");
+        ongoing.setExperience(1.0, threeYearsAgo);
+        Candidate junior = candidate("Junior", "java");
+        junior.setExperienceYears(2.0);
+        Candidate unknown = candidate("Unknown", "java");
+        dbManager.insertCandidates(List.of(senior, ongoing, junior, unknown));
+
+        assertEquals(List.of("Senior", "Ongoing"), names(dbManager.getCandidatesWithExperience(4.0)));
+        assertEquals(List.of("Senior"), names(dbManager.getCandidatesWithExperience(4.5)));
+        assertEquals(List.of("Senior", "Ongoing", "Junior"), names(dbManager.getCandidatesWithExperience(0.0)));
+        Candidate stored = dbManager.getCandidateById(ongoing.getId());
+        assertEquals(threeYearsAgo, stored.getExperienceSince());
+        assertEquals(4.0 + 1 / 12.0, stored.getExperienceYears(), 1e-9);
+    }
+
+    static Candidate candidate(String name, String... skills) {
+        return new Candidate(name, null, null, List.of(skills), null, null);
+    }
+
+    private static List<String> names(List<Candidate> candidates) {
+        List<String> names = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            names.add(candidate.getName());
+        }
+        return names;
+    }
+}
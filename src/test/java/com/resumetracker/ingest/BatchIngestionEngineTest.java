@@ -0,0 +1,185 @@
+package com.resumetracker.ingest;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.parser.ResumeParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchIngestionEngineTest {
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager dbManager;
+    private BatchIngestionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        dbManager = DatabaseManager.getInstance();
+        dbManager.connect("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        // Small queue and batches so the pipeline wraps around several times
+        engine = new BatchIngestionEngine(new ResumeParser(), dbManager, 3, 2, 4);
+        engine.setNearDuplicateThreshold(0.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dbManager.close();
+    }
+
+    @Test
+    void storesEveryParsedFile() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            files.add(resume("resume" + i + ".txt", i));
+        }
+
+        List<IngestionResult> results = engine.ingest(files, null);
+
+        assertEquals(files.size(), results.size());
+        Set<Integer> ids = new HashSet<>();
+        for (IngestionResult result : results) {
+            assertTrue(result.isSuccess(), result.toString());
+            assertFalse(result.isDuplicate());
+            ids.add(result.getCandidateId());
+        }
+        assertEquals(files.size(), ids.size());
+        assertEquals(files.size(), dbManager.getAllCandidates().size());
+    }
+
+    @Test
+    void reportsUnsupportedFilesAsErrors() throws IOException {
+        File unsupported = Files.write(tempDir.resolve("resume.rtf"), "text".getBytes(StandardCharsets.UTF_8)).toFile();
+
+        List<IngestionResult> results = engine.ingest(List.of(resume("ok.txt", 1), unsupported), null);
+
+        assertEquals(2, results.size());
+        for (IngestionResult result : results) {
+            if (result.getFile().equals(unsupported)) {
+                assertFalse(result.isSuccess());
+                assertNotNull(result.getError());
+                assertEquals(0, result.getCandidateId());
+            } else {
+                assertTrue(result.isSuccess());
+            }
+        }
+        assertEquals(1, dbManager.getAllCandidates().size());
+    }
+
+    @Test
+    void resolvesCopiesInTheSameBatchToOneCandidate() throws IOException {
+        File original = resume("a.txt", 1);
+        File copy = Files.copy(original.toPath(), tempDir.resolve("b.txt")).toFile();
+
+        List<IngestionResult> results = engine.ingest(List.of(original, copy), null);
+
+        assertEquals(2, results.size());
+        assertEquals(results.get(0).getCandidateId(), results.get(1).getCandidateId());
+        assertTrue(results.get(0).isSuccess() && results.get(1).isSuccess());
+        assertEquals(1, results.stream().filter(IngestionResult::isDuplicate).count());
+        assertEquals(1, dbManager.getAllCandidates().size());
+    }
+
+    @Test
+    void resolvesStoredContentToTheExistingCandidate() throws IOException {
+        File file = resume("a.txt", 1);
+        int storedId = engine.ingest(List.of(file), null).get(0).getCandidateId();
+
+        IngestionResult again = engine.ingest(List.of(file), null).get(0);
+
+        assertTrue(again.isDuplicate());
+        assertTrue(again.isSuccess());
+        assertEquals(storedId, again.getCandidateId());
+        assertEquals(1, dbManager.getAllCandidates().size());
+    }
+
+    @Test
+    void reportsEveryFileToTheListener() throws IOException {
+        List<File> files = List.of(resume("a.txt", 1), resume("b.txt", 2), resume("c.txt", 3));
+        List<Integer> processed = new ArrayList<>();
+
+        engine.ingest(files, (result, done, total) -> {
+            assertEquals(files.size(), total);
+            processed.add(done);
+        });
+
+        assertEquals(List.of(1, 2, 3), processed);
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        ResumeParser parser = new ResumeParser();
+        assertThrows(IllegalArgumentException.class, () -> new BatchIngestionEngine(parser, dbManager, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchIngestionEngine(parser, dbManager, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> engine.setNearDuplicateThreshold(1.5));
+    }
+
+    @Test
+    void skipsCandidatesWhoseContentIsAlreadyStored() {
+        Candidate first = new Candidate("Ada Lovelace", "ada@example.com", null, List.of("java"), null, null);
+        first.setContentHash("same-hash");
+        Candidate second = new Candidate("Ada Lovelace", "ada@example.com", null, List.of("java"), null, null);
+        second.setContentHash("same-hash");
+
+        assertEquals(1, dbManager.insertCandidates(List.of(first)));
+        assertEquals(0, dbManager.insertCandidates(List.of(second)));
+
+        assertTrue(first.getId() > 0);
+        assertEquals(0, second.getId());
+        assertEquals(first.getId(), dbManager.getCandidateByContentHash("same-hash").getId());
+    }
+
+    @Test
+    void linksNearDuplicateResumesToTheirOriginal() throws IOException {
+        engine.setNearDuplicateThreshold(0.8);
+        String text = "Ada Lovelace\nada@example.com\n\nSkills\nJava, SQL\n\nExperience\n" +
+                      NearDuplicateIndexTest.resumeText(0, 200) + "\n";
+        File original = Files.write(tempDir.resolve("a.txt"), text.getBytes(StandardCharsets.UTF_8)).toFile();
+        File edited = Files.write(tempDir.resolve("b.txt"),
+                                  NearDuplicateIndexTest.edited(text).getBytes(StandardCharsets.UTF_8)).toFile();
+        File inBatch = Files.write(tempDir.resolve("c.txt"),
+                                   (text + "References on request\n").getBytes(StandardCharsets.UTF_8)).toFile();
+        int originalId = engine.ingest(List.of(original), null).get(0).getCandidateId();
+
+        List<IngestionResult> results = engine.ingest(List.of(edited, inBatch, resume("d.txt", 1)), null);
+
+        assertEquals(3, results.size());
+        for (IngestionResult result : results) {
+            assertTrue(result.isSuccess(), result.toString());
+            boolean copy = !result.getFile().getName().equals("d.txt");
+            assertEquals(copy, result.isNearDuplicate(), result.toString());
+            if (copy) {
+                assertEquals(originalId, dbManager.getCandidateById(result.getCandidateId()).getDuplicateOf());
+            }
+        }
+        assertEquals(2, dbManager.getAllCandidates().size());
+    }
+
+    private File resume(String name, int n) throws IOException {
+        String text = "Person Number" + (char) ('A' + n % 26) + "\n" +
+                      "person" + n + "@example.com\n\n" +
+                      "Skills\n" +
+                      "Java, SQL, Skill" + n + "\n\n" +
+                      "Education\n" +
+                      "BSc Computer Science\n";
+        return Files.write(tempDir.resolve(name), text.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+}
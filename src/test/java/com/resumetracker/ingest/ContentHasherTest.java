@@ -0,0 +1,40 @@
+package com.resumetracker.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ContentHasherTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void hashesTheFileBytes() throws IOException {
+        File file = Files.write(tempDir.resolve("abc.txt"), "abc".getBytes(StandardCharsets.US_ASCII)).toFile();
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", ContentHasher.sha256(file));
+    }
+
+    @Test
+    void hashesLargeFilesInChunks() throws IOException {
+        byte[] content = new byte[200 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File a = Files.write(tempDir.resolve("a.bin"), content).toFile();
+        File copy = Files.write(tempDir.resolve("copy.bin"), content).toFile();
+        content[content.length - 1]++;
+        File changed = Files.write(tempDir.resolve("changed.bin"), content).toFile();
+
+        assertEquals(ContentHasher.sha256(a), ContentHasher.sha256(copy));
+        assertNotEquals(ContentHasher.sha256(a), ContentHasher.sha256(changed));
+    }
+}
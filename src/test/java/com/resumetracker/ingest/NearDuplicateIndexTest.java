@@ -0,0 +1,72 @@
+package com.resumetracker.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateIndexTest {
+
+    @Test
+    void estimatesSimilarityOfResumeTexts() {
+        String text = resumeText(0, 200);
+        int[] signature = MinHasher.signature(text);
+
+        assertEquals(MinHasher.SIGNATURE_LENGTH, signature.length);
+        assertArrayEquals(signature, MinHasher.signature(text.toUpperCase().replace(' ', '\n')));
+        assertEquals(1.0, MinHasher.similarity(signature, signature), 0.0);
+        assertTrue(MinHasher.similarity(signature, MinHasher.signature(edited(text))) >= 0.8);
+        assertTrue(MinHasher.similarity(signature, MinHasher.signature(resumeText(1000, 200))) < 0.2);
+    }
+
+    @Test
+    void hasNoSignatureForTextsWithoutWords() {
+        assertNull(MinHasher.signature(null));
+        assertNull(MinHasher.signature(" -- , . "));
+        assertEquals(MinHasher.SIGNATURE_LENGTH, MinHasher.signature("java").length);
+    }
+
+    @Test
+    void findsTheStoredNearDuplicate() {
+        NearDuplicateIndex<Integer> index = new NearDuplicateIndex<>(0.8);
+        for (int i = 0; i < 20; i++) {
+            index.add(MinHasher.signature(resumeText(i * 1000, 200)), i);
+        }
+
+        assertEquals(20, index.size());
+        assertEquals(7, index.findDuplicate(MinHasher.signature(edited(resumeText(7000, 200)))));
+        assertNull(index.findDuplicate(MinHasher.signature(resumeText(99_000, 200))));
+    }
+
+    @Test
+    void prefersTheEarliestOfEqualMatches() {
+        NearDuplicateIndex<String> index = new NearDuplicateIndex<>(0.5);
+        int[] signature = MinHasher.signature(resumeText(0, 100));
+        index.add(signature, "first");
+        index.add(signature.clone(), "second");
+
+        assertEquals("first", index.findDuplicate(signature));
+    }
+
+    /**
+     * Builds a text of distinct words numbered from the given offset.
+     */
+    static String resumeText(int offset, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append("word").append(offset + i).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the text with one word changed, like a resume with an updated phone number.
+     */
+    static String edited(String text) {
+        int middle = text.length() / 2;
+        int start = text.lastIndexOf(' ', middle) + 1;
+        return text.substring(0, start) + "changed" + text.substring(start);
+    }
+}
@@ -0,0 +1,186 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobMatcherTest {
+    private static final String[] SKILLS = {
+        "Java", "SQL", "Python", "Docker", "Kubernetes", "Spring Boot", "React", "Go", "Kafka", "AWS"};
+    private static final JobDescription JOB =
+        new JobDescription("Backend Engineer", List.of("Java", "SQL", "Docker", "Kafka"), 5);
+
+    @Test
+    void scoresSkillsAndExperience() {
+        JobMatcher matcher = new JobMatcher();
+
+        MatchResult half = matcher.match(candidate(1, 5.0, "java", "sql"), JOB);
+        assertEquals(50.0, half.getSkillScore(), 1e-9);
+        assertEquals(List.of("Java", "SQL"), half.getMatchedSkills());
+        assertEquals(List.of("Docker", "Kafka"), half.getMissingSkills());
+        assertTrue(half.getMatchScore() > matcher.match(candidate(2, 5.0, "java"), JOB).getMatchScore());
+    }
+
+    @Test
+    void topMatchesAreTheBestOfAFullSort() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = randomCandidates(500, 1);
+
+        for (int k : new int[] {1, 10, 100, 499}) {
+            for (double threshold : new double[] {0.0, 40.0, 75.0}) {
+                assertSameRanking(expectedTop(matcher, candidates, JOB, k, threshold),
+                    matcher.findTopMatches(candidates, JOB, k, threshold));
+            }
+        }
+    }
+
+    @Test
+    void tiesKeepTheInputOrder() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            candidates.add(candidate(i, 5.0, "Java", "SQL"));
+        }
+
+        List<MatchResult> top = matcher.findTopMatches(candidates, JOB, 3, 0.0);
+
+        assertEquals(List.of(1, 2, 3), SkillIndexTest.ids(top));
+    }
+
+    @Test
+    void returnsEveryQualifyingCandidateWhenKIsLarge() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = randomCandidates(50, 2);
+
+        List<MatchResult> top = matcher.findTopMatches(candidates, JOB, 1000, 50.0);
+
+        assertSameRanking(expectedTop(matcher, candidates, JOB, 1000, 50.0), top);
+    }
+
+    @Test
+    void pruningKeepsEveryCandidateAboveHighThresholds() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = randomCandidates(2000, 5);
+        JobDescription manySkills = new JobDescription("Generalist", List.of(SKILLS), 3);
+
+        for (JobDescription job : List.of(JOB, manySkills)) {
+            for (int k : new int[] {1, 50, 2000}) {
+                for (double threshold : new double[] {70.0, 85.0, 95.0, 100.0}) {
+                    assertSameRanking(expectedTop(matcher, candidates, job, k, threshold),
+                        matcher.findTopMatches(candidates, job, k, threshold));
+                }
+            }
+        }
+    }
+
+    @Test
+    void parallelMatchingGivesTheSameResultsAsSequential() {
+        // Well above the size at which the candidate list is split over the pool
+        List<Candidate> candidates = randomCandidates(20_000, 3);
+        JobMatcher sequential = new JobMatcher();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JobMatcher parallel = new JobMatcher(pool);
+
+            for (int k : new int[] {1, 25, 20_000}) {
+                assertSameRanking(sequential.findTopMatches(candidates, JOB, k, 30.0),
+                    parallel.findTopMatches(candidates, JOB, k, 30.0));
+            }
+            assertSameRanking(sequential.scoreCandidates(candidates, JOB, 60.0).asList(),
+                parallel.scoreCandidates(candidates, JOB, 60.0).asList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void batchMatchingGivesEachJobItsOwnTopMatches() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = randomCandidates(300, 4);
+        // More jobs than are scored in one pass over the candidates
+        List<JobDescription> jobs = new ArrayList<>();
+        for (int j = 0; j < 20; j++) {
+            jobs.add(new JobDescription("Job " + j, List.of(SKILLS[j % SKILLS.length], SKILLS[(j * 3 + 1) % SKILLS.length]), j % 6));
+        }
+        List<Integer> completed = new ArrayList<>();
+
+        for (int k : new int[] {5, 300}) {
+            completed.clear();
+            matcher.matchJobs(jobs, candidates, k, 20.0, (job, results, done, total) -> {
+                assertEquals(jobs.size(), total);
+                assertSame(jobs.get(done - 1), job);
+                completed.add(done);
+                assertSameRanking(expectedTop(matcher, candidates, job, k, 20.0), results);
+            });
+            assertEquals(jobs.size(), completed.size());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        JobMatcher matcher = new JobMatcher();
+        assertThrows(IllegalArgumentException.class, () -> matcher.findTopMatches(List.of(), JOB, 0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> matcher.findTopMatches(new SkillIndex(), JOB, 0, 0.0));
+    }
+
+    /**
+     * Scores every candidate on its own, sorts stably best first, and cuts to the threshold and k.
+     */
+    static List<MatchResult> expectedTop(JobMatcher matcher, List<Candidate> candidates, JobDescription job,
+                                         int k, double threshold) {
+        List<MatchResult> all = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            MatchResult result = matcher.match(candidate, job);
+            if (result.getMatchScore() >= threshold) {
+                all.add(result);
+            }
+        }
+        all.sort(Comparator.comparingDouble(MatchResult::getMatchScore).reversed());
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    static void assertSameRanking(List<MatchResult> expected, List<MatchResult> actual) {
+        assertEquals(SkillIndexTest.ids(expected), SkillIndexTest.ids(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            MatchResult e = expected.get(i);
+            MatchResult a = actual.get(i);
+            assertEquals(e.getMatchScore(), a.getMatchScore(), 1e-9);
+            assertEquals(e.getMatchedSkills(), a.getMatchedSkills());
+            assertEquals(e.getMissingSkills(), a.getMissingSkills());
+        }
+    }
+
+    static List<Candidate> randomCandidates(int count, long seed) {
+        Random random = new Random(seed);
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            List<String> skills = new ArrayList<>();
+            for (String skill : SKILLS) {
+                if (random.nextInt(3) == 0) {
+                    skills.add(skill);
+                }
+            }
+            // Whole years give plenty of ties
+            candidates.add(candidate(id, random.nextInt(10), skills.toArray(new String[0])));
+        }
+        return candidates;
+    }
+
+    static Candidate candidate(int id, double years, String... skills) {
+        Candidate candidate = SkillIndexTest.candidate(id, skills);
+        candidate.setExperienceYears(years);
+        return candidate;
+    }
+}
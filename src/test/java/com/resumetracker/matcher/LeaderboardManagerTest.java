@@ -0,0 +1,142 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardManagerTest {
+    private static final int SIZE = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager dbManager;
+    private JobMatcher jobMatcher;
+    private LeaderboardManager leaderboards;
+    private JobDescription job;
+
+    @BeforeEach
+    void setUp() {
+        dbManager = DatabaseManager.getInstance();
+        dbManager.connect("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        jobMatcher = new JobMatcher();
+        // Apply candidate changes on the notifying thread so the test sees them at once
+        leaderboards = new LeaderboardManager(dbManager, jobMatcher, SIZE, Runnable::run);
+        leaderboards.load();
+        dbManager.addCandidateListener(leaderboards);
+        job = new JobDescription("Backend Engineer", List.of("Java", "SQL", "Docker"), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dbManager.removeCandidateListener(leaderboards);
+        leaderboards.close();
+        dbManager.close();
+    }
+
+    @Test
+    void buildsTheLeaderboardWhenAJobIsSaved() {
+        insert(10, 1);
+
+        assertTrue(leaderboards.saveJob(job));
+
+        assertEquals(List.of(job.getId()), ids(leaderboards.getSavedJobs()));
+        assertMatchesFullRanking(leaderboards.getLeaderboard(job.getId()));
+    }
+
+    @Test
+    void mergesNewCandidatesIncrementally() {
+        insert(5, 2);
+        leaderboards.saveJob(job);
+
+        insert(10, 3);
+        dbManager.insertCandidate(JobMatcherTest.candidate(0, 9.0, "Java", "SQL", "Docker"));
+
+        List<MatchResult> leaderboard = leaderboards.getLeaderboard(job.getId());
+        assertMatchesFullRanking(leaderboard);
+        assertEquals(100.0, leaderboard.get(0).getMatchScore(), 1e-9);
+    }
+
+    @Test
+    void removesDeletedCandidatesAndRefillsFromTheRest() {
+        insert(12, 4);
+        leaderboards.saveJob(job);
+
+        // Deleting the whole stored leaderboard leaves too few; it is rebuilt from the rest
+        for (int i = 0; i < SIZE * 2; i++) {
+            int best = leaderboards.getLeaderboard(job.getId()).get(0).getCandidate().getId();
+            assertTrue(dbManager.deleteCandidate(best));
+            assertFalse(SkillIndexTest.ids(leaderboards.getLeaderboard(job.getId())).contains(best));
+        }
+
+        assertMatchesFullRanking(leaderboards.getLeaderboard(job.getId()));
+    }
+
+    @Test
+    void reloadsStoredLeaderboards() {
+        insert(8, 5);
+        leaderboards.saveJob(job);
+        List<MatchResult> before = leaderboards.getLeaderboard(job.getId());
+
+        LeaderboardManager reloaded = new LeaderboardManager(dbManager, jobMatcher, SIZE, Runnable::run);
+        reloaded.load();
+
+        JobMatcherTest.assertSameRanking(before, reloaded.getLeaderboard(job.getId()));
+        assertTrue(reloaded.getLeaderboard(job.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void appliesChangesOnItsOwnThreadByDefault() throws InterruptedException {
+        leaderboards.saveJob(job);
+        LeaderboardManager background = new LeaderboardManager(dbManager, jobMatcher, SIZE);
+        background.load();
+        dbManager.addCandidateListener(background);
+        try {
+            insert(6, 6);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (background.getLeaderboard(job.getId()).size() < SIZE && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            JobMatcherTest.assertSameRanking(leaderboards.getLeaderboard(job.getId()),
+                background.getLeaderboard(job.getId()));
+        } finally {
+            dbManager.removeCandidateListener(background);
+            background.close();
+        }
+    }
+
+    private void insert(int count, long seed) {
+        List<Candidate> candidates = JobMatcherTest.randomCandidates(count, seed);
+        for (Candidate candidate : candidates) {
+            candidate.setId(0);
+        }
+        dbManager.insertCandidates(candidates);
+    }
+
+    private void assertMatchesFullRanking(List<MatchResult> leaderboard) {
+        List<MatchResult> expected = jobMatcher.findTopMatches(dbManager.getAllCandidates(), job, SIZE, 0.0);
+        JobMatcherTest.assertSameRanking(expected, leaderboard);
+    }
+
+    private static List<Integer> ids(List<JobDescription> jobs) {
+        List<Integer> ids = new ArrayList<>();
+        for (JobDescription saved : jobs) {
+            ids.add(saved.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,161 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.database.DatabaseManager;
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchCacheTest {
+    private static final JobDescription JOB =
+        new JobDescription("Platform Engineer", List.of("Kubernetes", "Go"), 0);
+
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager dbManager;
+    private SkillIndex skillIndex;
+    private JobMatcher matcher;
+    private MatchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        dbManager = DatabaseManager.getInstance();
+        dbManager.connect("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        skillIndex = new SkillIndex();
+        dbManager.addCandidateListener(skillIndex);
+        dbManager.insertCandidates(List.of(
+            candidate("Ada", "kubernetes", "go"), candidate("Alan", "go"), candidate("Grace", "cobol")));
+        matcher = new JobMatcher();
+        cache = new MatchCache(matcher, skillIndex, dbManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dbManager.removeCandidateListener(skillIndex);
+        dbManager.close();
+    }
+
+    @Test
+    void answersRepeatedQueriesFromTheCache() {
+        List<MatchResult> first = cache.findTopMatches(JOB, 10, 0.0);
+        List<MatchResult> second = cache.findTopMatches(JOB, 10, 0.0);
+
+        JobMatcherTest.assertSameRanking(matcher.findTopMatches(skillIndex, JOB, 10, 0.0), first);
+        JobMatcherTest.assertSameRanking(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        cache.findTopMatches(JOB, 1, 0.0);
+        cache.findTopMatches(JOB, 10, 50.0);
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void sharesAnEntryBetweenJobsThatOnlyDifferInCaseSpacingAndOrder() {
+        cache.findTopMatches(JOB, 10, 0.0);
+
+        List<MatchResult> same = cache.findTopMatches(
+            new JobDescription(" platform ENGINEER ", List.of("go ", "KUBERNETES"), 0), 10, 0.0);
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+        assertEquals("Ada", same.get(0).getCandidate().getName());
+    }
+
+    @Test
+    void keepsSynonymousJobsApart() {
+        // Partial matching: the skill contains "kubernetes" but not "k8s"
+        dbManager.insertCandidate(candidate("Linus", "kubernetes-admin"));
+        JobDescription kubernetes = new JobDescription("Cluster Admin", List.of("Kubernetes"), 0);
+        JobDescription k8s = new JobDescription("Cluster Admin", List.of("k8s"), 0);
+
+        List<MatchResult> first = cache.findTopMatches(kubernetes, 10, 0.0);
+        List<MatchResult> second = cache.findTopMatches(k8s, 10, 0.0);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+        JobMatcherTest.assertSameRanking(matcher.findTopMatches(skillIndex, kubernetes, 10, 0.0), first);
+        JobMatcherTest.assertSameRanking(matcher.findTopMatches(skillIndex, k8s, 10, 0.0), second);
+        assertTrue(names(first).contains("Linus"));
+        assertFalse(names(second).contains("Linus"));
+    }
+
+    @Test
+    void returnsCopiesCallersMayModify() {
+        List<MatchResult> first = cache.findTopMatches(JOB, 10, 0.0);
+        int size = first.size();
+        first.get(0).getMatchedSkills().clear();
+        first.get(0).setMatchScore(-1.0);
+        first.clear();
+
+        List<MatchResult> second = cache.findTopMatches(JOB, 10, 0.0);
+        second.get(0).getMissingSkills().add("Rust");
+
+        List<MatchResult> third = cache.findTopMatches(JOB, 10, 0.0);
+        assertEquals(size, third.size());
+        assertEquals(List.of("Kubernetes", "Go"), third.get(0).getMatchedSkills());
+        assertTrue(third.get(0).getMissingSkills().isEmpty());
+        assertEquals(100.0, third.get(0).getMatchScore(), 1e-9);
+    }
+
+    @Test
+    void dropsEntriesWhenCandidatesChange() {
+        List<MatchResult> before = cache.findTopMatches(JOB, 10, 0.0);
+
+        Candidate newcomer = candidate("Linus", "kubernetes", "go");
+        dbManager.insertCandidate(newcomer);
+        List<MatchResult> afterInsert = cache.findTopMatches(JOB, 10, 0.0);
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(before.size() + 1, afterInsert.size());
+        assertEquals(1, cache.size());
+
+        dbManager.deleteCandidate(newcomer.getId());
+        JobMatcherTest.assertSameRanking(before, cache.findTopMatches(JOB, 10, 0.0));
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedQuery() {
+        cache.findTopMatches(JOB, 1, 0.0);
+        cache.findTopMatches(JOB, 2, 0.0);
+        cache.findTopMatches(JOB, 1, 0.0);
+        cache.findTopMatches(JOB, 3, 0.0);
+
+        assertEquals(2, cache.size());
+        cache.findTopMatches(JOB, 1, 0.0);
+        assertEquals(2, cache.getHitCount());
+        cache.findTopMatches(JOB, 2, 0.0);
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new MatchCache(matcher, skillIndex, dbManager, 0));
+    }
+
+    private static List<String> names(List<MatchResult> results) {
+        List<String> names = new ArrayList<>();
+        for (MatchResult result : results) {
+            names.add(result.getCandidate().getName());
+        }
+        return names;
+    }
+
+    private static Candidate candidate(String name, String... skills) {
+        return new Candidate(name, null, null, List.of(skills), null, null);
+    }
+}
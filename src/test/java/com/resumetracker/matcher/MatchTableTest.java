@@ -0,0 +1,81 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.resumetracker.matcher.JobMatcherTest.assertSameRanking;
+import static com.resumetracker.matcher.JobMatcherTest.candidate;
+import static com.resumetracker.matcher.JobMatcherTest.expectedTop;
+import static com.resumetracker.matcher.JobMatcherTest.randomCandidates;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchTableTest {
+    private static final JobDescription JOB =
+        new JobDescription("Data Engineer", List.of("Python", "SQL", "Kafka"), 3);
+
+    @Test
+    void ranksLikeAFullStableSort() {
+        JobMatcher matcher = new JobMatcher();
+        List<Candidate> candidates = randomCandidates(1000, 6);
+
+        for (double threshold : new double[] {0.0, 50.0, 90.0}) {
+            MatchTable table = matcher.scoreCandidates(candidates, JOB, threshold);
+
+            List<MatchResult> expected = expectedTop(matcher, candidates, JOB, candidates.size(), threshold);
+            assertEquals(expected.size(), table.size());
+            assertSameRanking(expected, table.getResults(0, table.size()));
+            for (int rank = 0; rank < table.size(); rank++) {
+                assertEquals(expected.get(rank).getCandidate().getId(), table.getCandidateId(rank));
+                assertSame(expected.get(rank).getCandidate(), table.getCandidate(rank));
+                assertEquals(expected.get(rank).getMatchScore(), table.getScore(rank), 1e-9);
+                assertEquals(expected.get(rank).getMatchedSkills().size(), table.getMatchedSkillCount(rank));
+            }
+        }
+    }
+
+    @Test
+    void keepsTiesInInputOrder() {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            // Ids 3, 6 and 9 score higher; the rest tie
+            candidates.add(i % 3 == 0 ? candidate(i, 3.0, "Python", "SQL") : candidate(i, 3.0, "Python"));
+        }
+
+        MatchTable table = new JobMatcher().scoreCandidates(candidates, JOB, 0.0);
+
+        assertEquals(List.of(3, 6, 9, 1, 2, 4, 5, 7, 8), SkillIndexTest.ids(table.asList()));
+        assertSame(JOB, table.getJobDescription());
+    }
+
+    @Test
+    void listViewBuildsEachRowOnce() {
+        MatchTable table = new JobMatcher().scoreCandidates(randomCandidates(20, 7), JOB, 0.0);
+        List<MatchResult> view = table.asList();
+
+        assertSame(view.get(3), view.get(3));
+        assertNotSame(table.getResult(3), table.getResult(3));
+        assertEquals(table.size(), view.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(table.size()));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, null));
+    }
+
+    @Test
+    void pagesThroughTheRanking() {
+        MatchTable table = new JobMatcher().scoreCandidates(randomCandidates(50, 8), JOB, 0.0);
+
+        List<MatchResult> page = table.getResults(10, 20);
+
+        assertEquals(10, page.size());
+        assertEquals(table.getCandidateId(10), page.get(0).getCandidate().getId());
+        assertTrue(table.getResults(5, 5).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.resumetracker.matcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequiredSkillsTest {
+    private final SkillDictionary dictionary = SkillDictionary.getInstance();
+
+    @Test
+    void masksTheRequiredSkillsACandidateHas() {
+        int[] candidate = dictionary.encode(List.of("reqskill one", "reqskill three", "unrelated reqskill"));
+        RequiredSkills required = new RequiredSkills(
+            Arrays.asList("reqskill one", "reqskill two", null, "reqskill three"), dictionary);
+
+        assertArrayEquals(new long[] {0b1001L}, required.matchMask(candidate));
+        assertEquals(2, required.countMatched(candidate));
+    }
+
+    @Test
+    void handlesMoreThanSixtyFourSkills() {
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            skills.add("reqskill many " + (char) ('a' + i / 26) + (char) ('a' + i % 26));
+        }
+        RequiredSkills required = new RequiredSkills(skills, dictionary);
+        int[] candidate = dictionary.encode(List.of(skills.get(0), skills.get(70), skills.get(99)));
+
+        long[] mask = required.matchMask(candidate);
+
+        assertEquals(2, required.words());
+        assertEquals(1L, mask[0]);
+        assertEquals((1L << 6) | (1L << 35), mask[1]);
+        assertEquals(3, required.countMatched(candidate));
+    }
+
+    @Test
+    void matchesSkillsInternedAfterCompiling() {
+        RequiredSkills required = new RequiredSkills(List.of("reqskill late"), dictionary);
+
+        int[] candidate = dictionary.encode(List.of("Reqskill Late Edition"));
+
+        assertArrayEquals(new long[] {1L}, required.matchMask(candidate));
+        assertEquals(1, required.countMatched(candidate));
+    }
+
+    @Test
+    void rejectsCandidatesThatCannotReachTheNeededCount() {
+        RequiredSkills required = new RequiredSkills(
+            List.of("prune one", "prune two", "prune three", "prune four"), dictionary);
+        int[] twoMatches = dictionary.encode(List.of("prune one", "prune three", "prune other"));
+
+        assertEquals(2, required.countMatched(twoMatches, 0));
+        assertEquals(2, required.countMatched(twoMatches, 2));
+        assertEquals(-1, required.countMatched(twoMatches, 3));
+        assertEquals(-1, required.countMatched(dictionary.encode(List.of("prune one")), 2));
+        assertEquals(-1, required.countMatched(new int[0], 1));
+    }
+
+    @Test
+    void countsSkillsInternedAfterCompilingInFull() {
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            skills.add("prune late " + (char) ('a' + i / 26) + (char) ('a' + i % 26));
+        }
+        RequiredSkills required = new RequiredSkills(skills, dictionary);
+        RequiredSkills single = new RequiredSkills(List.of("prune late single"), dictionary);
+
+        // Each of these later skills satisfies one required skill by partial matching
+        int[] candidate = dictionary.encode(List.of(skills.get(0) + " x", skills.get(50) + " x", skills.get(99) + " x"));
+        int[] late = dictionary.encode(List.of("Prune Late Single Edition"));
+
+        assertEquals(3, required.countMatched(candidate, 3));
+        assertEquals(-1, required.countMatched(candidate, 4));
+        assertEquals(1, single.countMatched(late, 1));
+    }
+}
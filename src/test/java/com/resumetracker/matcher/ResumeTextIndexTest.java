@@ -0,0 +1,93 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeTextIndexTest {
+
+    @Test
+    void tokenizesKeepingPlusAndHash() {
+        assertEquals(List.of("c++", "c#", "and", "c", "node", "js"), ResumeTextIndex.tokenize("C++, C# and C; Node.js"));
+        assertEquals(List.of("x", "2"), ResumeTextIndex.tokenize("+x 2"));
+    }
+
+    @Test
+    void scoresWithBm25ScaledToOneHundred() {
+        ResumeTextIndex index = new ResumeTextIndex();
+        index.add(1, "java java sql");
+        index.add(2, "python");
+
+        float[] scores = index.score(List.of("Java"));
+
+        // idf cancels against the upper bound idf * (k1 + 1); length norm = 1.2 * (0.25 + 0.75 * 3 / 2)
+        assertEquals(100.0 * 2 / (2 + 1.65), scores[1], 1e-3);
+        assertEquals(0.0, scores[2], 0.0);
+    }
+
+    @Test
+    void ranksFrequentTermsAndShortResumesHigher() {
+        ResumeTextIndex index = new ResumeTextIndex();
+        index.add(1, "kafka kafka kafka streams");
+        index.add(2, "kafka streams");
+        index.add(3, "kafka streams and a lot of other unrelated words in a long resume");
+        index.add(4, "cobol");
+
+        float[] scores = index.score(List.of("Kafka"));
+
+        assertTrue(scores[1] > scores[2]);
+        assertTrue(scores[2] > scores[3]);
+        assertTrue(scores[3] > 0.0f);
+        assertTrue(scores[1] <= 100.0f);
+    }
+
+    @Test
+    void skipsRemovedAndReplacedResumes() {
+        ResumeTextIndex index = new ResumeTextIndex();
+        index.add(1, "golang");
+        index.add(2, "golang rust");
+
+        index.remove(1);
+        index.add(2, "rust");
+
+        assertEquals(1, index.size());
+        float[] scores = index.score(List.of("golang", "rust"));
+        assertEquals(0.0, scores[1], 0.0);
+        assertTrue(scores[2] > 0.0f);
+    }
+
+    @Test
+    void retrievesCandidatesWhoseResumeTextMentionsASkill() {
+        Candidate listed = SkillIndexTest.candidate(1, "Java");
+        Candidate mentioned = SkillIndexTest.candidate(2, "Cobol");
+        mentioned.setResumeText("Built Java services for ten years");
+        Candidate neither = SkillIndexTest.candidate(3, "Cobol");
+        neither.setResumeText("Mainframes");
+        SkillIndex skills = new SkillIndex();
+        skills.addAll(List.of(listed, mentioned, neither));
+        ResumeTextIndex text = new ResumeTextIndex();
+        text.addAll(List.of(listed, mentioned, neither));
+
+        JobDescription job = new JobDescription("Java Developer", List.of("Java"), 0);
+        List<MatchResult> results = new JobMatcher(null, text, 0.5).findTopMatches(skills, job, 10, 0.0);
+
+        assertEquals(List.of(1, 2), SkillIndexTest.ids(results));
+        assertTrue(results.get(1).getTextScore() > 0.0);
+        assertEquals(1, new JobMatcher().findTopMatches(skills, job, 10, 0.0).size());
+    }
+
+    @Test
+    void rejectsTextWeightsOutsideZeroToOne() {
+        ResumeTextIndex text = new ResumeTextIndex();
+        assertThrows(IllegalArgumentException.class, () -> new JobMatcher(ForkJoinPool.commonPool(), text, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new JobMatcher(ForkJoinPool.commonPool(), text, 1.0));
+    }
+}
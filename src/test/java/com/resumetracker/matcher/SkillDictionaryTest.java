@@ -0,0 +1,58 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillDictionaryTest {
+    // The dictionary is a JVM-wide singleton, so each test uses skill names no other test interns
+    private final SkillDictionary dictionary = SkillDictionary.getInstance();
+
+    @Test
+    void internsNormalizedSkillsOnce() {
+        int id = dictionary.intern("  Dictskill Alpha ");
+
+        assertEquals(id, dictionary.intern("dictskill alpha"));
+        assertEquals("dictskill alpha", dictionary.getSkill(id));
+    }
+
+    @Test
+    void encodesDistinctSortedIds() {
+        int[] ids = dictionary.encode(Arrays.asList("Dictskill Beta", null, "dictskill beta ", "Dictskill Gamma"));
+
+        assertEquals(2, ids.length);
+        assertTrue(ids[0] < ids[1]);
+        assertEquals(0, dictionary.encode((List<String>) null).length);
+    }
+
+    @Test
+    void storesEncodedIdsOnTheCandidate() {
+        Candidate candidate = SkillIndexTest.candidate(1, "Dictskill Delta");
+
+        int[] ids = dictionary.encode(candidate);
+
+        assertSame(ids, candidate.getSkillIds());
+        assertSame(ids, dictionary.encode(candidate));
+    }
+
+    @Test
+    void extendsCachedMatchSetsWithLaterSkills() {
+        int exact = dictionary.intern("dictskill epsilon");
+        // Short skills interned by other tests (e.g. "c") may partially match too
+        int[] cached = dictionary.matchingSkillIds("Dictskill Epsilon");
+        assertTrue(Arrays.binarySearch(cached, exact) >= 0);
+
+        // Interned after the match set was cached; contains the required skill
+        int longer = dictionary.intern("dictskill epsilon pro");
+        int[] expected = Arrays.copyOf(cached, cached.length + 1);
+        expected[cached.length] = longer;
+        assertArrayEquals(expected, dictionary.matchingSkillIds("dictskill epsilon"));
+    }
+}
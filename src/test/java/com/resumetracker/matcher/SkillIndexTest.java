@@ -0,0 +1,103 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.Candidate;
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillIndexTest {
+
+    @Test
+    void findsCandidatesWithAMatchingSkillInIdOrder() {
+        SkillIndex index = new SkillIndex();
+        index.addAll(List.of(
+            candidate(3, "Python"),
+            candidate(1, "Java", "SQL"),
+            candidate(2, "Cobol")));
+
+        assertEquals(List.of(1, 3), ids(index.findCandidates(List.of("sql", "python"))));
+        assertEquals(List.of(1, 2, 3), ids(index.findCandidates(Collections.emptyList())));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void usesPartialAndSynonymMatching() {
+        SkillIndex index = new SkillIndex();
+        index.addAll(List.of(
+            candidate(1, "Spring Boot"),
+            candidate(2, "K8s"),
+            candidate(3, "Go")));
+
+        assertEquals(List.of(1), ids(index.findCandidates(List.of("spring"))));
+        assertEquals(List.of(2), ids(index.findCandidates(List.of("Kubernetes"))));
+        assertEquals(List.of(3), ids(index.findCandidates(List.of("golang"))));
+    }
+
+    @Test
+    void forgetsRemovedAndReplacedCandidates() {
+        SkillIndex index = new SkillIndex();
+        index.add(candidate(1, "Java"));
+        index.add(candidate(2, "Java"));
+
+        assertTrue(index.remove(1));
+        assertFalse(index.remove(1));
+        assertEquals(List.of(2), ids(index.findCandidates(List.of("java"))));
+
+        index.add(candidate(2, "Rust"));
+        assertTrue(index.findCandidates(List.of("java")).isEmpty());
+        assertEquals(List.of(2), ids(index.findCandidates(List.of("rust"))));
+
+        index.candidateDeleted(2);
+        assertEquals(0, index.size());
+        assertEquals(0, index.getSkillCount());
+    }
+
+    @Test
+    void indexedMatchingRanksLikeAFullScan() {
+        List<Candidate> candidates = new ArrayList<>();
+        String[][] skills = {
+            {"Java", "SQL"}, {"Java"}, {"Python"}, {"SQL", "Docker"}, {"Cobol"}, {"Java", "SQL", "Docker"}};
+        for (int i = 0; i < skills.length; i++) {
+            candidates.add(candidate(i + 1, skills[i]));
+        }
+        SkillIndex index = new SkillIndex();
+        index.addAll(candidates);
+        JobDescription job = new JobDescription("Backend", List.of("Java", "SQL", "Docker"), 0);
+        JobMatcher matcher = new JobMatcher();
+
+        // Candidates without any required skill only score experience, so the index skips them
+        List<MatchResult> scanned = new ArrayList<>();
+        for (MatchResult result : matcher.matchMultipleCandidates(candidates, job)) {
+            if (!result.getMatchedSkills().isEmpty()) {
+                scanned.add(result);
+            }
+        }
+        List<MatchResult> indexed = matcher.matchMultipleCandidates(index, job);
+
+        assertEquals(ids(scanned), ids(indexed));
+        for (int i = 0; i < scanned.size(); i++) {
+            assertEquals(scanned.get(i).getMatchScore(), indexed.get(i).getMatchScore(), 1e-9);
+        }
+    }
+
+    static Candidate candidate(int id, String... skills) {
+        return new Candidate(id, "Candidate " + id, null, null, List.of(skills), null, null);
+    }
+
+    static List<Integer> ids(List<?> candidatesOrResults) {
+        List<Integer> ids = new ArrayList<>();
+        for (Object item : candidatesOrResults) {
+            Candidate candidate = item instanceof MatchResult ? ((MatchResult) item).getCandidate() : (Candidate) item;
+            ids.add(candidate.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,92 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.JobDescription;
+import com.resumetracker.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.resumetracker.matcher.SkillIndexTest.candidate;
+import static com.resumetracker.matcher.SkillIndexTest.ids;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SkillQueryTest {
+
+    @Test
+    void parsesPrefixesQuotesAndBoosts() {
+        SkillQuery query = SkillQuery.parse(" +java, kafka^2 pulsar -\"contract only\" +\"spring boot\"^1.5 ");
+
+        assertEquals(List.of("java", "spring boot"), skills(query.getMustClauses()));
+        assertEquals(List.of("kafka", "pulsar"), skills(query.getShouldClauses()));
+        assertEquals(List.of("contract only"), skills(query.getMustNotClauses()));
+        assertEquals(List.of("java", "spring boot", "kafka", "pulsar"), query.getScoredSkills());
+        assertEquals(1.5, query.getMustClauses().get(1).getBoost(), 0.0);
+        assertEquals(2.0, query.getShouldClauses().get(0).getBoost(), 0.0);
+        assertEquals(1.0, query.getShouldClauses().get(1).getBoost(), 0.0);
+    }
+
+    @Test
+    void rejectsMalformedQueries() {
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("-java"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("  , "));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("+\"spring boot"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("java^0"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("java^x"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("\"java\"kafka"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("+ java"));
+    }
+
+    @Test
+    void retrievesCandidatesByMustShouldAndMustNotClauses() {
+        SkillIndex index = new SkillIndex();
+        index.addAll(List.of(
+            candidate(1, "Java", "Kafka"),
+            candidate(2, "Java", "Pulsar", "Contract Only"),
+            candidate(3, "Java"),
+            candidate(4, "Kafka"),
+            candidate(5, "Python")));
+
+        assertEquals(List.of(1, 2, 3), ids(index.findCandidates(SkillQuery.parse("+java kafka"))));
+        assertEquals(List.of(1, 2, 4), ids(index.findCandidates(SkillQuery.parse("kafka pulsar"))));
+        assertEquals(List.of(1, 3), ids(index.findCandidates(SkillQuery.parse("+java -\"contract only\""))));
+        assertEquals(List.of(1), ids(index.findCandidates(SkillQuery.parse("+kafka +java"))));
+        assertEquals(List.of(4), ids(index.findCandidates(SkillQuery.parse("kafka -java"))));
+    }
+
+    @Test
+    void excludesOnlyTheMustNotSkillItself() {
+        SkillIndex index = new SkillIndex();
+        index.addAll(List.of(candidate(1, "Java", "C"), candidate(2, "Java", "R"),
+            candidate(3, "Java", "Contract Only"), candidate(4, "Java", "K8s")));
+
+        assertEquals(List.of(1, 2, 4), ids(index.findCandidates(SkillQuery.parse("+java -\"contract only\""))));
+        // Synonyms are still excluded
+        assertEquals(List.of(1, 2, 3), ids(index.findCandidates(SkillQuery.parse("+java -kubernetes"))));
+    }
+
+    @Test
+    void scoresBoostedSkillsByTheirShare() {
+        SkillIndex index = new SkillIndex();
+        index.addAll(List.of(candidate(1, "Java"), candidate(2, "Kafka"), candidate(3, "Python")));
+        JobDescription job = new JobDescription("Engineer", List.of(), 0);
+
+        List<MatchResult> results = new JobMatcher().findTopMatches(
+            index, SkillQuery.parse("java kafka^3"), job, 10, 0.0);
+
+        assertEquals(List.of(2, 1), ids(results));
+        assertEquals(75.0, results.get(0).getSkillScore(), 1e-9);
+        assertEquals(25.0, results.get(1).getSkillScore(), 1e-9);
+        assertEquals(List.of("kafka"), results.get(0).getMatchedSkills());
+        assertEquals(List.of("java"), results.get(0).getMissingSkills());
+    }
+
+    private static List<String> skills(List<SkillQuery.Clause> clauses) {
+        List<String> skills = new ArrayList<>();
+        for (SkillQuery.Clause clause : clauses) {
+            skills.add(clause.getSkill());
+        }
+        return skills;
+    }
+}
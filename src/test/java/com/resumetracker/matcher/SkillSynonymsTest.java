@@ -0,0 +1,59 @@
+package com.resumetracker.matcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SkillSynonymsTest {
+
+    private static SkillSynonyms load(String text) throws IOException {
+        return SkillSynonyms.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void mapsAliasesToTheCanonicalKey() throws IOException {
+        SkillSynonyms synonyms = load(
+            "# comment\n" +
+            "javascript = js, ecmascript\n" +
+            "\n" +
+            "node.js = node\n" +
+            "terraform\n");
+
+        assertEquals("javascript", synonyms.canonicalize("JS"));
+        assertEquals("javascript", synonyms.canonicalize("EcmaScript"));
+        assertEquals("nodejs", synonyms.canonicalize("Node"));
+        assertEquals("nodejs", synonyms.canonicalize("node js"));
+        assertEquals("terraform", synonyms.canonicalize("Terraform"));
+        assertEquals(6, synonyms.size());
+    }
+
+    @Test
+    void ignoresSeparatorsForUnknownSkills() throws IOException {
+        SkillSynonyms synonyms = load("");
+
+        assertEquals("springboot", synonyms.canonicalize("Spring-Boot"));
+        assertEquals(synonyms.canonicalize("C/C++"), synonyms.canonicalize("c c++"));
+    }
+
+    @Test
+    void keepsTheFirstGroupOfARepeatedAlias() throws IOException {
+        SkillSynonyms synonyms = load("golang = go\ngo game = go\n");
+
+        assertEquals("golang", synonyms.canonicalize("go"));
+    }
+
+    @Test
+    void defaultTableKnowsCommonAliases() {
+        SkillSynonyms synonyms = SkillSynonyms.loadDefault();
+
+        assertEquals(synonyms.canonicalize("kubernetes"), synonyms.canonicalize("k8s"));
+        assertEquals(synonyms.canonicalize("postgresql"), synonyms.canonicalize("Postgres"));
+        assertEquals(synonyms.canonicalize("postgresql"), synonyms.canonicalize("Postgresq"));
+        assertNotEquals(synonyms.canonicalize("java"), synonyms.canonicalize("javascript"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.resumetracker.matcher;
+
+import com.resumetracker.model.JobDescription;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillTaxonomyTest {
+    private static final SkillSynonyms SYNONYMS = SkillSynonyms.loadDefault();
+    private static final SkillTaxonomy TAXONOMY = SkillTaxonomy.loadDefault(SYNONYMS);
+
+    @Test
+    void impliesParentsAndImpliedSkillsTransitively() {
+        assertTrue(implies(TAXONOMY, "Kotlin", "JVM Languages"));
+        assertTrue(implies(TAXONOMY, "Spring Boot", "Spring"));
+        assertTrue(implies(TAXONOMY, "Spring Boot", "Java"));
+        assertTrue(implies(TAXONOMY, "Spring Boot", "JVM Languages"));
+        assertTrue(implies(TAXONOMY, "Java", "Java"));
+        assertFalse(implies(TAXONOMY, "Java", "Kotlin"));
+        assertFalse(implies(TAXONOMY, "JVM Languages", "Kotlin"));
+    }
+
+    @Test
+    void resolvesNamesThroughSynonyms() {
+        assertTrue(implies(TAXONOMY, "k8s", "Containers"));
+        assertTrue(implies(TAXONOMY, "k8s", "Container Orchestration"));
+        assertEquals(-1, TAXONOMY.termId(SYNONYMS.canonicalize("not a taxonomy skill")));
+    }
+
+    @Test
+    void loadsCyclesAndSkipsMalformedLines() throws IOException {
+        String text = "# comment\n" +
+                      "alpha => beta\n" +
+                      "beta => gamma, alpha\n" +
+                      "no operator here\n" +
+                      " > orphan\n" +
+                      "family > alpha\n";
+        SkillTaxonomy taxonomy = SkillTaxonomy.load(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), SYNONYMS);
+
+        assertEquals(4, taxonomy.size());
+        assertTrue(implies(taxonomy, "alpha", "gamma"));
+        assertTrue(implies(taxonomy, "beta", "alpha"));
+        assertTrue(implies(taxonomy, "beta", "family"));
+        assertFalse(implies(taxonomy, "gamma", "alpha"));
+        assertEquals(-1, taxonomy.termId("orphan"));
+    }
+
+    @Test
+    void matchesCandidatesByTheSkillsTheirSkillsImply() {
+        JobMatcher matcher = new JobMatcher();
+        JobDescription job = new JobDescription("Platform Engineer", List.of("JVM Languages", "Containers"), 0);
+
+        assertEquals(List.of("JVM Languages", "Containers"),
+            matcher.match(JobMatcherTest.candidate(1, 0.0, "Kotlin", "k8s"), job).getMatchedSkills());
+        assertEquals(List.of("Containers"),
+            matcher.match(JobMatcherTest.candidate(2, 0.0, "Docker"), job).getMatchedSkills());
+        assertEquals(List.of("JVM Languages"),
+            matcher.match(JobMatcherTest.candidate(3, 0.0, "Spring Boot"), job).getMatchedSkills());
+    }
+
+    private static boolean implies(SkillTaxonomy taxonomy, String skill, String implied) {
+        int termId = taxonomy.termId(SYNONYMS.canonicalize(skill));
+        int impliedTermId = taxonomy.termId(SYNONYMS.canonicalize(implied));
+        return termId >= 0 && impliedTermId >= 0 && taxonomy.implies(termId, impliedTermId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.resumetracker.matcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TrigramIndexTest {
+
+    @Test
+    void correctsToTheClosestTerm() {
+        TrigramIndex index = index("kubernetes", "postgresql", "terraform");
+
+        assertEquals("kubernetes", index.findClosest("kubernets", 1));
+        assertEquals("postgresql", index.findClosest("postgressql", 2));
+        assertEquals("terraform", index.findClosest("terrafrom", 1));
+    }
+
+    @Test
+    void aFartherTermIsNotATie() {
+        // Each query is one edit from the first term and two from the second
+        assertEquals("selenium", index("selenium", "selenide").findClosest("selenim", 2));
+        assertEquals("mongodb", index("mongodb", "mongodbx").findClosest("mongodv", 2));
+        assertEquals("kubernetes", index("kubernetes", "kubernetesio").findClosest("kubernetess", 2));
+    }
+
+    @Test
+    void anEqualDistanceIsAmbiguous() {
+        TrigramIndex index = index("mysql", "mssql");
+
+        assertNull(index.findClosest("mxsql", 1));
+    }
+
+    @Test
+    void anEqualDistanceToAliasesOfOneTermIsNotAmbiguous() {
+        Map<String, String> canonicalByTerm = new HashMap<>();
+        canonicalByTerm.put("postgresql", "postgresql");
+        canonicalByTerm.put("postgres", "postgresql");
+        canonicalByTerm.put("mysql", "mysql");
+        canonicalByTerm.put("mssql", "sqlserver");
+        TrigramIndex index = new TrigramIndex(canonicalByTerm);
+
+        // One edit from both "postgres" and "postgresql"
+        assertEquals("postgresql", index.findClosest("postgresq", 1));
+        assertNull(index.findClosest("mxsql", 1));
+    }
+
+    @Test
+    void respectsTheMaximumDistance() {
+        TrigramIndex index = index("kubernetes");
+
+        assertNull(index.findClosest("kubrnets", 1));
+        assertEquals("kubernetes", index.findClosest("kubrnets", 2));
+        assertNull(index.findClosest("kubernets", 0));
+        assertNull(index().findClosest("kubernets", 1));
+    }
+
+    /**
+     * Builds an index whose terms are their own canonical forms.
+     */
+    private static TrigramIndex index(String... terms) {
+        Map<String, String> canonicalByTerm = new HashMap<>();
+        for (String term : terms) {
+            canonicalByTerm.put(term, term);
+        }
+        return new TrigramIndex(canonicalByTerm);
+    }
+}
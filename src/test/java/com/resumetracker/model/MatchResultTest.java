@@ -0,0 +1,88 @@
+package com.resumetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchResultTest {
+
+    @Test
+    void buildsSkillListsFromTheMatchMask() {
+        List<String> required = List.of("Java", "SQL", "Docker");
+        MatchResult result = compact(required, new long[] {0b101L}, null);
+
+        assertEquals(List.of("Java", "Docker"), result.getMatchedSkills());
+        assertEquals(List.of("SQL"), result.getMissingSkills());
+        assertSame(result.getMatchedSkills(), result.getMatchedSkills());
+        assertEquals("Java, Docker", result.getMatchedSkillsAsString());
+    }
+
+    @Test
+    void readsMaskBitsBeyondTheFirstWord() {
+        List<String> required = IntStream.range(0, 130).mapToObj(i -> "skill" + i).collect(Collectors.toList());
+        MatchResult result = compact(required, new long[] {1L, 0L, 1L << 1}, null);
+
+        assertEquals(List.of("skill0", "skill129"), result.getMatchedSkills());
+        assertEquals(128, result.getMissingSkills().size());
+    }
+
+    @Test
+    void formatsDetailsOnceOnFirstRead() {
+        AtomicInteger calls = new AtomicInteger();
+        MatchResult result = compact(List.of("Java"), new long[] {1L}, r -> {
+            calls.incrementAndGet();
+            return "score " + r.getSkillScore();
+        });
+
+        assertEquals(0, calls.get());
+        assertEquals("score 100.0", result.getMatchDetails());
+        assertEquals("score 100.0", result.getMatchDetails());
+        assertEquals(1, calls.get());
+        assertNull(compact(List.of("Java"), new long[] {1L}, null).getMatchDetails());
+    }
+
+    @Test
+    void copiesHaveTheirOwnSkillLists() {
+        MatchResult result = compact(List.of("Java", "SQL"), new long[] {1L}, r -> "details");
+        result.getMatchedSkills();
+
+        MatchResult copy = new MatchResult(result);
+        copy.getMatchedSkills().add("Kafka");
+        copy.getMissingSkills().clear();
+
+        assertEquals(List.of("Java"), result.getMatchedSkills());
+        assertEquals(List.of("SQL"), result.getMissingSkills());
+        assertNotSame(result.getMatchedSkills(), copy.getMatchedSkills());
+        assertSame(result.getCandidate(), copy.getCandidate());
+        assertEquals(result.getMatchScore(), copy.getMatchScore(), 0.0);
+        assertEquals("details", copy.getMatchDetails());
+    }
+
+    @Test
+    void keepsExplicitListsOfFullResults() {
+        List<String> matched = new ArrayList<>(List.of("Java"));
+        MatchResult result = new MatchResult(null, 50.0, matched, null);
+
+        assertSame(matched, result.getMatchedSkills());
+        assertTrue(result.getMissingSkills().isEmpty());
+        assertEquals("None", result.getMissingSkillsAsString());
+    }
+
+    private static MatchResult compact(List<String> required, long[] mask,
+                                       Function<MatchResult, String> formatter) {
+        Candidate candidate = new Candidate("Ada Lovelace", null, null, List.of("java"), null, null);
+        JobDescription job = new JobDescription("Engineer", required, 0);
+        return new MatchResult(candidate, job, 80.0, required, mask, 100.0, 40.0, 0.0, formatter);
+    }
+}
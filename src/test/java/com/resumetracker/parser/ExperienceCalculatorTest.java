@@ -0,0 +1,74 @@
+package com.resumetracker.parser;
+
+import com.resumetracker.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ExperienceCalculatorTest {
+    private static final YearMonth NOW = YearMonth.of(2024, 6);
+
+    @Test
+    void countsFinishedRangesInYears() {
+        assertFinished(2.25, "Software Engineer, Jan 2019 - Mar 2021");
+        assertFinished(2.0, "Analyst 2019 - 2021");
+        assertFinished(1.0, "Intern 06/2017 - 05/2018");
+    }
+
+    @Test
+    void countsOverlappingRangesOnce() {
+        assertFinished(3.0, "Jan 2018 - Dec 2019 Acme\nJun 2019 - Dec 2020 Side project");
+        assertFinished(3.0, "2010 - 2012 Acme\n2015 - 2016 Initech");
+    }
+
+    @Test
+    void keepsOngoingRangesApart() {
+        ExperienceCalculator.Experience experience = ExperienceCalculator.calculate(
+            "Jan 2015 - Dec 2016 Acme\nMar 2020 - present Initech\nJan 2021 - Present Freelance", NOW);
+
+        assertEquals(2.0, experience.finishedYears, 1e-9);
+        assertEquals(2020 * 12 + 2, experience.ongoingSince);
+    }
+
+    @Test
+    void countsFinishedRangesOnlyUpToTheOngoingOne() {
+        ExperienceCalculator.Experience experience = ExperienceCalculator.calculate(
+            "Jan 2018 - Dec 2021 Acme\nJan 2020 - Present Initech", NOW);
+
+        assertEquals(2.0, experience.finishedYears, 1e-9);
+        assertEquals(2020 * 12, experience.ongoingSince);
+    }
+
+    @Test
+    void ignoresFutureAndImplausibleRanges() {
+        assertFinished(ExperienceCalculator.UNKNOWN, "1900 - 1910 Acme");
+        assertFinished(ExperienceCalculator.UNKNOWN, "Jan 2030 - Dec 2031 Acme");
+        assertFinished(0.5, "Jan 2024 - Dec 2025 Acme");
+        assertFinished(ExperienceCalculator.UNKNOWN, "No dates here");
+        assertFinished(ExperienceCalculator.UNKNOWN, null);
+    }
+
+    @Test
+    void countsOngoingExperienceUpToTheGivenMonth() {
+        Candidate candidate = new Candidate("Ada Lovelace", null, null, List.of("java"), null, null);
+        candidate.setExperience(2.0, 2020 * 12 + 2);
+
+        assertEquals(2.0 + 1 / 12.0, candidate.getExperienceYears(YearMonth.of(2020, 3)), 1e-9);
+        assertEquals(3.0 + 1 / 12.0, candidate.getExperienceYears(YearMonth.of(2021, 3)), 1e-9);
+        assertEquals(2.0, candidate.getExperienceYears(YearMonth.of(2019, 1)), 1e-9);
+        assertEquals(2.0, candidate.getFinishedExperienceYears(), 0.0);
+
+        candidate.setExperienceYears(-1.0);
+        assertFalse(candidate.hasExperienceYears());
+    }
+
+    private static void assertFinished(double expected, String text) {
+        ExperienceCalculator.Experience experience = ExperienceCalculator.calculate(text, NOW);
+        assertEquals(expected, experience.finishedYears, 1e-9, String.valueOf(text));
+        assertEquals(-1, experience.ongoingSince);
+    }
+}
@@ -0,0 +1,70 @@
+package com.resumetracker.parser;
+
+import com.resumetracker.model.Candidate;
+import opennlp.tools.tokenize.TokenizerME;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NlpModelsTest {
+
+    @Test
+    void givesEachThreadItsOwnTokenizer() throws InterruptedException {
+        TokenizerME mine = NlpModels.tokenizer();
+        assertSame(mine, NlpModels.tokenizer());
+
+        AtomicReference<TokenizerME> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(NlpModels.tokenizer()));
+        thread.start();
+        thread.join();
+
+        if (NlpModels.hasTokenizer()) {
+            assertNotSame(mine, other.get());
+        }
+    }
+
+    @Test
+    void parsesTheSameOnManyThreadsAsOnOne() throws Exception {
+        ResumeParser parser = new ResumeParser();
+        List<String> resumes = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            resumes.add("Jane Doe" + (char) ('a' + i % 26) + "\njane" + i + "@example.com\n555-123-" + (1000 + i) + "\n\n" +
+                        "Skills\nJava, Python, Skill" + i + "\n\nEducation\nBSc Mathematics\n");
+        }
+
+        List<Candidate> expected = new ArrayList<>();
+        for (String resume : resumes) {
+            expected.add(parser.parse(resume));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Candidate>> futures = new ArrayList<>();
+            for (String resume : resumes) {
+                Callable<Candidate> parse = () -> parser.parse(resume);
+                futures.add(executor.submit(parse));
+            }
+            for (int i = 0; i < resumes.size(); i++) {
+                Candidate actual = futures.get(i).get();
+                assertEquals(expected.get(i).getName(), actual.getName());
+                assertEquals(expected.get(i).getEmail(), actual.getEmail());
+                assertEquals(expected.get(i).getPhone(), actual.getPhone());
+                assertEquals(expected.get(i).getSkills(), actual.getSkills());
+                assertTrue(actual.getSkills().contains("Skill" + i), actual.getSkills().toString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.resumetracker.parser;
+
+import com.resumetracker.model.JobDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserPatternsTest {
+
+    @Test
+    void findsEmailsAndPhones() {
+        Matcher email = ParserPatterns.EMAIL.matcher("Contact: Jane.Doe+cv@mail.example.org today");
+        assertTrue(email.find());
+        assertEquals("Jane.Doe+cv@mail.example.org", email.group());
+
+        for (String phone : List.of("(123) 456-7890", "123-456-7890", "123.456.7890", "+1-123-456-7890")) {
+            assertTrue(ParserPatterns.PHONE.matcher("Phone " + phone).find(), phone);
+        }
+        assertFalse(ParserPatterns.PHONE.matcher("Phone 12-34").find());
+    }
+
+    @Test
+    void readsDateRanges() {
+        Matcher range = ParserPatterns.DATE_RANGE.matcher("Acme Corp, Jan 2019 - Mar 2021");
+        assertTrue(range.find());
+        assertEquals("Jan", range.group(1));
+        assertEquals("2019", range.group(3));
+        assertEquals("Mar", range.group(4));
+        assertEquals("2021", range.group(6));
+
+        Matcher ongoing = ParserPatterns.DATE_RANGE.matcher("06/2018 to present");
+        assertTrue(ongoing.find());
+        assertEquals("06", ongoing.group(2));
+        assertEquals("2018", ongoing.group(3));
+        assertEquals("present", ongoing.group(7));
+    }
+
+    @Test
+    void parsesJobDescriptions() {
+        JobDescription job = new JobDescriptionParser().parse(
+            "Job Title: Backend Engineer\n" +
+            "Required Skills: Java, Spring and Hibernate | SQL\n" +
+            "Experience: 3 years\n");
+
+        assertEquals("Backend Engineer", job.getJobTitle());
+        assertEquals(List.of("Java", "Spring and Hibernate", "SQL"), job.getRequiredSkills());
+        assertEquals(3, job.getRequiredYearsOfExperience());
+    }
+
+    @Test
+    void prefersTheMostSpecificExperiencePattern() {
+        JobDescriptionParser parser = new JobDescriptionParser();
+
+        assertEquals(3, parser.parse("Backend Engineer\nSkills: Java\n3-5 years of experience, 10 years in business").getRequiredYearsOfExperience());
+        assertEquals(0, parser.parse("Backend Engineer\nSkills: Java\n").getRequiredYearsOfExperience());
+    }
+}
@@ -0,0 +1,111 @@
+package com.resumetracker.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SectionSegmenterTest {
+    private final SectionSegmenter segmenter = new SectionSegmenter(false)
+        .addSection("skills", "skills", "technical skills")
+        .addSection("education", "education")
+        .addBoundaries("projects");
+
+    @Test
+    void splitsSectionsAtTheNextHeader() {
+        SectionSegmenter.Sections sections = segmenter.segment(
+            "Jane Doe\nSkills\nJava, SQL\n\nEducation\nBSc Physics\nProjects\nA compiler\n");
+
+        assertEquals("Java, SQL", sections.get("skills"));
+        assertEquals("BSc Physics", sections.get("education"));
+        assertTrue(sections.isClosed("skills"));
+        assertTrue(sections.isClosed("education"));
+    }
+
+    @Test
+    void matchesHeadersIgnoringCaseSpacingAndColon() {
+        SectionSegmenter.Sections sections = segmenter.segment("TECHNICAL   SKILLS:\nKotlin\n");
+
+        assertEquals("Kotlin", sections.get("skills"));
+        assertFalse(sections.isClosed("skills"));
+    }
+
+    @Test
+    void keepsTheFirstOccurrenceOfASection() {
+        SectionSegmenter.Sections sections = segmenter.segment("Skills\nJava\nEducation\nBSc\nSkills\nCobol\n");
+
+        assertEquals("Java", sections.get("skills"));
+    }
+
+    @Test
+    void doesNotTreatHeaderWordsInsideBodyTextAsHeaders() {
+        SectionSegmenter.Sections sections = segmenter.segment(
+            "Skills\nJava\nUsed skills from my education daily\nEducation\nBSc\n");
+
+        assertEquals("Java\nUsed skills from my education daily", sections.get("skills"));
+    }
+
+    @Test
+    void returnsEmptyTextForMissingSections() {
+        SectionSegmenter.Sections sections = segmenter.segment("Jane Doe\n");
+
+        assertFalse(sections.has("skills"));
+        assertEquals("", sections.get("skills"));
+        assertFalse(sections.isClosed("skills"));
+    }
+
+    @Test
+    void readsInlineContentAfterTheSeparator() {
+        SectionSegmenter inline = new SectionSegmenter(true)
+            .addSection("skills", "required skills")
+            .addSection("experience", "experience");
+
+        SectionSegmenter.Sections sections = inline.segment("Required Skills: Java, SQL\nExperience; 5 years\n");
+
+        assertEquals("Java, SQL", sections.get("skills"));
+        assertEquals("5 years", sections.get("experience"));
+    }
+
+    @Test
+    void scanClosesSectionsAcrossChunks() {
+        SectionSegmenter.Scan scan = segmenter.newScan();
+
+        scan.append("Jane Doe\nSkills\nJava\nEdu");
+        assertFalse(scan.isClosed("skills"));
+
+        // The header split across chunks is only seen once its line is complete
+        scan.append("cation\nBSc");
+        assertTrue(scan.isClosed("skills"));
+        assertFalse(scan.isClosed("education"));
+
+        scan.append("\nProjects\n");
+        assertTrue(scan.isClosed("education"));
+    }
+
+    @Test
+    void scanAgreesWithSegment() {
+        String text = "Skills\nJava\nSkills\nCobol\nEducation\nBSc\n";
+        SectionSegmenter.Scan scan = segmenter.newScan();
+        for (int i = 0; i < text.length(); i += 3) {
+            scan.append(text.substring(i, Math.min(text.length(), i + 3)));
+        }
+        SectionSegmenter.Sections sections = segmenter.segment(text);
+
+        assertEquals(sections.isClosed("skills"), scan.isClosed("skills"));
+        assertEquals(sections.isClosed("education"), scan.isClosed("education"));
+    }
+
+    @Test
+    void scanIgnoresLongBodyLines() {
+        SectionSegmenter.Scan scan = segmenter.newScan();
+        StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longLine.append("education ");
+        }
+
+        scan.append("Skills\nJava\n").append(longLine.toString()).append("\n");
+
+        assertFalse(scan.isClosed("skills"));
+    }
+}
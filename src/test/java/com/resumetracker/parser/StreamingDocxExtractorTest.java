@@ -0,0 +1,105 @@
+package com.resumetracker.parser;
+
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.model.XWPFHeaderFooterPolicy;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingDocxExtractorTest {
+    @TempDir
+    Path tempDir;
+
+    private final StreamingDocxExtractor extractor = new StreamingDocxExtractor();
+
+    @Test
+    void extractsTheSameTextAsXwpf() throws IOException {
+        File file = tempDir.resolve("resume.docx").toFile();
+        try (XWPFDocument document = new XWPFDocument()) {
+            XWPFHeaderFooterPolicy policy = document.createHeaderFooterPolicy();
+            policy.createHeader(XWPFHeaderFooterPolicy.DEFAULT).createParagraph().createRun().setText("Jane Doe");
+
+            XWPFRun run = document.createParagraph().createRun();
+            run.setText("Skills");
+            run.addBreak();
+            run.setText("Java");
+            run.addTab();
+            run.setText("SQL");
+            document.createParagraph().createRun().setText("Education");
+
+            XWPFTable table = document.createTable(2, 2);
+            table.getRow(0).getCell(0).setText("2019");
+            table.getRow(0).getCell(1).setText("BSc Physics");
+            table.getRow(1).getCell(0).setText("2021");
+            table.getRow(1).getCell(1).setText("MSc Physics");
+
+            try (OutputStream out = new FileOutputStream(file)) {
+                document.write(out);
+            }
+        }
+
+        String expected;
+        try (InputStream in = new FileInputStream(file);
+             XWPFWordExtractor xwpf = new XWPFWordExtractor(new XWPFDocument(in))) {
+            expected = xwpf.getText();
+        }
+
+        String text = extractor.extract(file);
+        assertTrue(text.startsWith("Jane Doe"), text);
+        assertTrue(text.contains("Java\tSQL"), text);
+        assertEquals(expected.trim(), text.trim());
+    }
+
+    @Test
+    void putsEachParagraphOfATableCellOnItsOwnLine() throws IOException {
+        File file = tempDir.resolve("table.docx").toFile();
+        try (XWPFDocument document = new XWPFDocument()) {
+            XWPFTable table = document.createTable(1, 2);
+            table.getRow(0).getCell(0).setText("2021");
+            XWPFParagraph second = table.getRow(0).getCell(1).addParagraph();
+            table.getRow(0).getCell(1).setText("MSc");
+            second.createRun().setText("Physics");
+            try (OutputStream out = new FileOutputStream(file)) {
+                document.write(out);
+            }
+        }
+
+        assertEquals("2021\tMSc\nPhysics", extractor.extract(file).trim());
+    }
+
+    @Test
+    void rejectsZipsThatAreNotWordDocuments() throws IOException {
+        File notDocx = tempDir.resolve("fake.docx").toFile();
+        try (java.util.zip.ZipOutputStream zip = new java.util.zip.ZipOutputStream(new FileOutputStream(notDocx))) {
+            zip.putNextEntry(new java.util.zip.ZipEntry("readme.txt"));
+            zip.write("hello".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        assertThrows(IOException.class, () -> extractor.extract(notDocx));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotZips() throws IOException {
+        File text = Files.write(tempDir.resolve("plain.docx"), "plain text".getBytes(StandardCharsets.UTF_8)).toFile();
+
+        assertThrows(IOException.class, () -> extractor.extract(text));
+    }
+}
@@ -0,0 +1,138 @@
+package com.resumetracker.parser;
+
+import com.resumetracker.model.Candidate;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingPdfExtractorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsEveryPageByDefault() throws IOException {
+        File pdf = pdf("three.pdf", List.of("First page"), List.of("Second page"), List.of("Third page"));
+        List<String> pages = new ArrayList<>();
+
+        StreamingPdfExtractor.Result result = new StreamingPdfExtractor().extract(pdf, page -> {
+            pages.add(page);
+            return true;
+        });
+
+        assertTrue(result.isComplete());
+        assertTrue(result.getText().contains("First page"));
+        assertTrue(result.getText().contains("Third page"));
+        // Early stopping is off, so the check is never asked
+        assertTrue(pages.isEmpty());
+    }
+
+    @Test
+    void stopsEarlyOnceThePageCheckPasses() throws IOException {
+        File pdf = pdf("three.pdf", List.of("First page"), List.of("Second page"), List.of("Third page"));
+        StreamingPdfExtractor extractor = new StreamingPdfExtractor(0, StreamingPdfExtractor.DEFAULT_MAX_CHARACTERS, true);
+        List<String> pages = new ArrayList<>();
+
+        StreamingPdfExtractor.Result result = extractor.extract(pdf, page -> {
+            pages.add(page);
+            return page.contains("Second");
+        });
+
+        assertFalse(result.isComplete());
+        assertTrue(result.getText().contains("Second page"));
+        assertFalse(result.getText().contains("Third page"));
+        // Each call sees only its own page
+        assertEquals(2, pages.size());
+        assertFalse(pages.get(1).contains("First page"));
+    }
+
+    @Test
+    void stopsAtTheCharacterLimit() throws IOException {
+        File pdf = pdf("three.pdf", List.of("First page"), List.of("Second page"), List.of("Third page"));
+        StreamingPdfExtractor extractor = new StreamingPdfExtractor(0, 5, false);
+
+        StreamingPdfExtractor.Result result = extractor.extract(pdf, page -> false);
+
+        assertFalse(result.isComplete());
+        assertTrue(result.getText().contains("First page"));
+        assertFalse(result.getText().contains("Second page"));
+    }
+
+    @Test
+    void reachingTheLimitOnTheLastPageIsStillComplete() throws IOException {
+        File pdf = pdf("one.pdf", List.of("Only page"));
+
+        assertTrue(new StreamingPdfExtractor(0, 1, false).extract(pdf, page -> false).isComplete());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingPdfExtractor(-1, 10, false));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingPdfExtractor(0, 0, false));
+    }
+
+    @Test
+    void parserStopsAfterTheKeySectionsAndDropsPartialText() throws IOException {
+        File pdf = pdf("resume.pdf",
+            List.of("Jane Doe", "jane@example.com", "Skills", "Java, SQL", "Education", "BSc Physics"),
+            List.of("Experience", "Engineer at Acme", "Projects", "A compiler"),
+            List.of("References", "Available on request"));
+        ResumeParser parser = new ResumeParser(new StreamingPdfExtractor(0, StreamingPdfExtractor.DEFAULT_MAX_CHARACTERS, true));
+
+        Candidate candidate = parser.parseFile(pdf);
+
+        assertEquals("jane@example.com", candidate.getEmail());
+        assertEquals(List.of("Java", "SQL"), candidate.getSkills());
+        assertFalse(candidate.getWorkExperience().isEmpty());
+        assertNull(candidate.getResumeText());
+    }
+
+    @Test
+    void parserKeepsTheTextOfCompletePdfs() throws IOException {
+        File pdf = pdf("resume.pdf", List.of("Jane Doe", "Skills", "Java"), List.of("Education", "BSc Physics"));
+
+        Candidate candidate = new ResumeParser().parseFile(pdf);
+
+        assertNotNull(candidate.getResumeText());
+        assertTrue(candidate.getResumeText().contains("BSc Physics"));
+    }
+
+    @SafeVarargs
+    private File pdf(String name, List<String>... pages) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        try (PDDocument document = new PDDocument()) {
+            for (List<String> lines : pages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 700);
+                    for (String line : lines) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file);
+        }
+        return file;
+    }
+}